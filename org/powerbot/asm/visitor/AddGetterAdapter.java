@@ -12,6 +12,7 @@ public class AddGetterAdapter extends ClassVisitor implements Opcodes {
 		public String owner;
 		public String name;
 		public String desc;
+		public int multiplier;
 	}
 
 	private final boolean virtual;
@@ -39,7 +40,7 @@ public class AddGetterAdapter extends ClassVisitor implements Opcodes {
 	@Override
 	public void visitEnd() {
 		for (final Field f : fields) {
-			visitGetter(f.getter_access, f.getter_name, f.getter_desc, virtual ? null : f.owner, f.name, f.desc);
+			visitGetter(f.getter_access, f.getter_name, f.getter_desc, virtual ? null : f.owner, f.name, f.desc, f.multiplier);
 		}
 		super.visitEnd();
 	}
@@ -50,7 +51,8 @@ public class AddGetterAdapter extends ClassVisitor implements Opcodes {
 			final String getter_desc,
 			final String owner,
 			final String name,
-			final String desc) {
+			final String desc,
+			final int multiplier) {
 		final MethodVisitor mv = super.visitMethod(getter_access, getter_name, getter_desc, null, null);
 		mv.visitCode();
 		if (owner == null) {
@@ -60,8 +62,13 @@ public class AddGetterAdapter extends ClassVisitor implements Opcodes {
 			mv.visitFieldInsn(GETSTATIC, owner, name, desc);
 		}
 		final int op = getReturnOpcode(desc);
+		final boolean decode = op == IRETURN && desc.equals("I") && multiplier != 0 && multiplier != 1;
+		if (decode) {
+			mv.visitLdcInsn(multiplier);
+			mv.visitInsn(IMUL);
+		}
 		mv.visitInsn(op);
-		mv.visitMaxs(op == LRETURN || op == DRETURN ? 2 : 1, (getter_access & ACC_STATIC) == 0 ? 1 : 0);
+		mv.visitMaxs(op == LRETURN || op == DRETURN || decode ? 2 : 1, (getter_access & ACC_STATIC) == 0 ? 1 : 0);
 		mv.visitEnd();
 	}
 
@@ -0,0 +1,168 @@
+package org.powerbot.concurrent;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A cooperative cancellation signal and optional deadline carried by a task while it executes.
+ * Cancelling a token cancels every token derived from it that is currently bound to a thread.
+ * Blocking API helpers (i.e. <code>Time.sleep</code>) consult the token bound to the current thread and return early when it is cancelled while they wait.
+ *
+ * @author Timer
+ */
+public class CancellationToken {
+	private static final ThreadLocal<CancellationToken> bound = new ThreadLocal<CancellationToken>();
+
+	private final CancellationToken parent;
+	private final long deadline;
+	private final List<CancellationToken> children;
+	private volatile boolean cancelled;
+
+	/**
+	 * Initializes a root token without a deadline.
+	 */
+	public CancellationToken() {
+		this(null, 0);
+	}
+
+	/**
+	 * @param parent   The token whose cancellation also cancels this token; may be <code>null</code>.
+	 * @param deadline The time in milliseconds at which this token is considered cancelled, or <code>0</code> for none.
+	 */
+	public CancellationToken(final CancellationToken parent, final long deadline) {
+		this.parent = parent;
+		this.deadline = parent != null && parent.getDeadline() != 0 && (deadline == 0 || parent.getDeadline() < deadline) ?
+				parent.getDeadline() : deadline;
+		this.children = new ArrayList<CancellationToken>();
+		this.cancelled = false;
+	}
+
+	/**
+	 * @return The token bound to the current thread, or <code>null</code> if none is bound.
+	 */
+	public static CancellationToken current() {
+		return bound.get();
+	}
+
+	/**
+	 * @return <tt>true</tt> if the token bound to the current thread is cancelled or the current thread is interrupted; otherwise <tt>false</tt>.
+	 */
+	public static boolean isCurrentCancelled() {
+		final CancellationToken token = bound.get();
+		return Thread.currentThread().isInterrupted() || (token != null && token.isCancelled());
+	}
+
+	/**
+	 * Executes a call on the current thread under a time budget.
+	 * The blocking helpers used by the call give up once the budget is spent; a call that completes regardless is not interrupted.
+	 *
+	 * @param budget The number of milliseconds the call may take.
+	 * @param call   The <code>CallableTask</code> to execute.
+	 * @return The result of the call.
+	 * @throws Exception If the call fails.
+	 */
+	public static <T> T within(final int budget, final CallableTask<T> call) throws Exception {
+		final CancellationToken token = new CancellationToken(bound.get(), System.currentTimeMillis() + Math.max(budget, 0));
+		final CancellationToken previous = token.bind();
+		try {
+			return call.call();
+		} finally {
+			token.unbind(previous);
+		}
+	}
+
+	/**
+	 * @return <tt>true</tt> if this token, or a token it derives from, was cancelled or reached its deadline; otherwise <tt>false</tt>.
+	 */
+	public boolean isCancelled() {
+		if (cancelled) {
+			return true;
+		}
+		if (deadline != 0 && System.currentTimeMillis() >= deadline) {
+			return true;
+		}
+		return parent != null && parent.isCancelled();
+	}
+
+	/**
+	 * @return The time in milliseconds at which this token is considered cancelled, or <code>0</code> for none.
+	 */
+	public long getDeadline() {
+		return deadline;
+	}
+
+	/**
+	 * @return The number of milliseconds until the deadline of this token, or <code>Long.MAX_VALUE</code> if it has none.
+	 */
+	public long getRemaining() {
+		return deadline == 0 ? Long.MAX_VALUE : Math.max(deadline - System.currentTimeMillis(), 0);
+	}
+
+	/**
+	 * Cancels this token and every bound token derived from it, waking threads waiting upon them.
+	 */
+	public void cancel() {
+		final CancellationToken[] children;
+		synchronized (this) {
+			cancelled = true;
+			notifyAll();
+			children = this.children.toArray(new CancellationToken[this.children.size()]);
+		}
+		for (final CancellationToken child : children) {
+			child.cancel();
+		}
+	}
+
+	/**
+	 * Waits until this token is cancelled or the given time passes, whichever is first.
+	 *
+	 * @param timeout The maximum number of milliseconds to wait.
+	 * @throws InterruptedException If the current thread is interrupted while waiting.
+	 */
+	public void await(final long timeout) throws InterruptedException {
+		final long end = System.currentTimeMillis() + Math.min(timeout, getRemaining());
+		synchronized (this) {
+			long now;
+			while (!isCancelled() && (now = System.currentTimeMillis()) < end) {
+				wait(end - now);
+			}
+		}
+	}
+
+	/**
+	 * Binds this token to the current thread.
+	 *
+	 * @return The token previously bound, to be restored by <code>unbind</code>.
+	 */
+	CancellationToken bind() {
+		if (parent != null) {
+			synchronized (parent) {
+				parent.children.add(this);
+			}
+			if (parent.isCancelled()) {
+				cancel();
+			}
+		}
+		final CancellationToken previous = bound.get();
+		bound.set(this);
+		return previous;
+	}
+
+	/**
+	 * Unbinds this token from the current thread.
+	 *
+	 * @param previous The token to restore.
+	 */
+	void unbind(final CancellationToken previous) {
+		if (previous != null) {
+			bound.set(previous);
+		} else {
+			bound.remove();
+		}
+		if (parent != null) {
+			synchronized (parent) {
+				parent.children.remove(this);
+			}
+		}
+	}
+}
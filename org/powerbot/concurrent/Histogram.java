@@ -0,0 +1,97 @@
+package org.powerbot.concurrent;
+
+/**
+ * A histogram of non-negative values recorded into power of two buckets.
+ * Percentiles are approximated by the upper bound of the bucket they fall in.
+ *
+ * @author Timer
+ */
+public class Histogram {
+	private final long[] buckets;
+	private long count;
+	private long total;
+	private long max;
+
+	public Histogram() {
+		this.buckets = new long[Long.SIZE + 1];
+		this.count = 0;
+		this.total = 0;
+		this.max = 0;
+	}
+
+	/**
+	 * Records a value within this histogram.
+	 *
+	 * @param value The value to record; negative values are recorded as zero.
+	 */
+	public synchronized void record(long value) {
+		if (value < 0) {
+			value = 0;
+		}
+		++buckets[Long.SIZE - Long.numberOfLeadingZeros(value)];
+		++count;
+		total += value;
+		if (value > max) {
+			max = value;
+		}
+	}
+
+	/**
+	 * @return The number of values recorded.
+	 */
+	public synchronized long getCount() {
+		return count;
+	}
+
+	/**
+	 * @return The sum of all values recorded.
+	 */
+	public synchronized long getTotal() {
+		return total;
+	}
+
+	/**
+	 * @return The largest value recorded.
+	 */
+	public synchronized long getMax() {
+		return max;
+	}
+
+	/**
+	 * @return The mean of all values recorded.
+	 */
+	public synchronized long getMean() {
+		return count > 0 ? total / count : 0;
+	}
+
+	/**
+	 * @param percentile The percentile to retrieve, between <code>0</code> and <code>1</code>.
+	 * @return The approximate value below which the given percentile of recorded values fall.
+	 */
+	public synchronized long getPercentile(final double percentile) {
+		if (count == 0) {
+			return 0;
+		}
+		final long rank = Math.max((long) Math.ceil(percentile * count), 1);
+		long seen = 0;
+		for (int i = 0; i < buckets.length; i++) {
+			seen += buckets[i];
+			if (seen >= rank) {
+				return i == 0 ? 0 : Math.min(i == Long.SIZE ? Long.MAX_VALUE : (1L << i) - 1, max);
+			}
+		}
+		return max;
+	}
+
+	/**
+	 * Discards all recorded values.
+	 */
+	public synchronized void reset() {
+		for (int i = 0; i < buckets.length; i++) {
+			buckets[i] = 0;
+		}
+		count = 0;
+		total = 0;
+		max = 0;
+	}
+}
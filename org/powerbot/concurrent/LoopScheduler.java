@@ -0,0 +1,291 @@
+package org.powerbot.concurrent;
+
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * A scheduler executing <code>LoopTask</code>s one iteration at a time on a small set of shared threads.
+ * The delay returned by each iteration reschedules the task on a hashed timer wheel rather than sleeping a thread.
+ * An iteration that sleeps or blocks within <code>loop()</code> holds one of the shared threads meanwhile, delaying every
+ * other loop of the scheduler; loops that block should be given a scheduler with a thread each, or be executed as tasks.
+ *
+ * @author Timer
+ */
+public class LoopScheduler {
+	private final TaskExecutor executor;
+	private final Thread ticker;
+	private final long tickDuration;
+	private final List<Timeout>[] wheel;
+	private final int mask;
+
+	private final Object lock;
+	private final List<Timeout> pending;
+	private final Set<LoopTask> active;
+	private int scheduled;
+	private volatile boolean shutdown;
+
+	private final long start;
+	private long tick;
+
+	/**
+	 * @param threadGroup The <code>ThreadGroup</code> all threads of this scheduler belong to.
+	 * @param threads     The number of threads iterations are executed on.
+	 */
+	public LoopScheduler(final ThreadGroup threadGroup, final int threads) {
+		this(threadGroup, threads, 10, 512);
+	}
+
+	/**
+	 * @param threadGroup The <code>ThreadGroup</code> the ticker thread of this scheduler belongs to.
+	 * @param executor    The executor iterations are executed on.
+	 */
+	public LoopScheduler(final ThreadGroup threadGroup, final TaskExecutor executor) {
+		this(threadGroup, executor, 10, 512);
+	}
+
+	/**
+	 * @param threadGroup  The <code>ThreadGroup</code> all threads of this scheduler belong to.
+	 * @param threads      The number of threads iterations are executed on.
+	 * @param tickDuration The resolution of the wheel in milliseconds.
+	 * @param wheelSize    The number of slots in the wheel; rounded up to a power of two.
+	 */
+	public LoopScheduler(final ThreadGroup threadGroup, final int threads, final long tickDuration, final int wheelSize) {
+		this(threadGroup, new PooledTaskExecutor(new ThreadPool(threadGroup), threads, threads, 0, Integer.MAX_VALUE,
+				PooledTaskExecutor.Rejection.ABORT), tickDuration, wheelSize);
+	}
+
+	/**
+	 * @param threadGroup  The <code>ThreadGroup</code> the ticker thread of this scheduler belongs to.
+	 * @param executor     The executor iterations are executed on.
+	 * @param tickDuration The resolution of the wheel in milliseconds.
+	 * @param wheelSize    The number of slots in the wheel; rounded up to a power of two.
+	 */
+	@SuppressWarnings({"unchecked", "rawtypes"})
+	public LoopScheduler(final ThreadGroup threadGroup, final TaskExecutor executor, final long tickDuration, final int wheelSize) {
+		if (executor == null) {
+			throw new NullPointerException();
+		}
+		if (tickDuration <= 0 || wheelSize <= 0) {
+			throw new IllegalArgumentException();
+		}
+		final ThreadPool factory = new ThreadPool(threadGroup);
+		int size = 1;
+		while (size < wheelSize) {
+			size <<= 1;
+		}
+		this.executor = executor;
+		this.tickDuration = tickDuration;
+		this.wheel = new List[size];
+		for (int i = 0; i < size; i++) {
+			wheel[i] = new LinkedList<Timeout>();
+		}
+		this.mask = size - 1;
+		this.lock = new Object();
+		this.pending = new LinkedList<Timeout>();
+		this.active = new HashSet<LoopTask>();
+		this.scheduled = 0;
+		this.shutdown = false;
+		this.start = System.currentTimeMillis();
+		this.tick = 0;
+		this.ticker = factory.newThread(new Runnable() {
+			public void run() {
+				turn();
+			}
+		});
+		ticker.setDaemon(true);
+		ticker.start();
+	}
+
+	/**
+	 * Submits a loop for scheduled execution, starting with an immediate iteration.
+	 *
+	 * @param task The <code>LoopTask</code> to schedule.
+	 * @return <tt>true</tt> if the loop was scheduled; <tt>false</tt> if it is already scheduled.
+	 */
+	public boolean submit(final LoopTask task) {
+		synchronized (lock) {
+			if (shutdown) {
+				throw new RejectedExecutionException();
+			}
+			if (!active.add(task)) {
+				return false;
+			}
+		}
+		execute(task);
+		return true;
+	}
+
+	/**
+	 * @return <tt>true</tt> if an iteration is currently executing; otherwise <tt>false</tt>.
+	 */
+	public boolean isActive() {
+		return executor.getActiveCount() > 0;
+	}
+
+	/**
+	 * @return The number of loops currently scheduled.
+	 */
+	public int getScheduledCount() {
+		synchronized (lock) {
+			return active.size();
+		}
+	}
+
+	/**
+	 * Shuts down this scheduler from accepting or rescheduling loops, allowing executing iterations to finish.
+	 */
+	public void shutdown() {
+		terminate();
+		executor.shutdown();
+	}
+
+	/**
+	 * Stops this scheduler entirely, interrupting executing iterations.
+	 */
+	public void stop() {
+		terminate();
+		executor.shutdownNow();
+	}
+
+	private void terminate() {
+		synchronized (lock) {
+			shutdown = true;
+			pending.clear();
+			active.clear();
+			for (final List<Timeout> slot : wheel) {
+				slot.clear();
+			}
+			scheduled = 0;
+			lock.notifyAll();
+		}
+	}
+
+	private void schedule(final LoopTask task, final long delay) {
+		if (delay <= 0) {
+			execute(task);
+			return;
+		}
+		synchronized (lock) {
+			if (shutdown) {
+				return;
+			}
+			pending.add(new Timeout(task, System.currentTimeMillis() + delay));
+			lock.notifyAll();
+		}
+	}
+
+	private void execute(final LoopTask task) {
+		try {
+			executor.submit(new Iteration(task));
+		} catch (final RejectedExecutionException ignored) {
+			release(task);
+		}
+	}
+
+	private void iterate(final LoopTask task) {
+		int wait = -1;
+		try {
+			wait = task.iterate();
+		} finally {
+			if (wait >= 0 && task.isRunning() && !shutdown) {
+				schedule(task, wait);
+			} else {
+				release(task);
+			}
+		}
+	}
+
+	private void release(final LoopTask task) {
+		synchronized (lock) {
+			active.remove(task);
+		}
+	}
+
+	/**
+	 * Advances the wheel one slot per tick, handing expired loops to the executor.
+	 */
+	private void turn() {
+		while (!shutdown) {
+			final List<LoopTask> expired = new LinkedList<LoopTask>();
+			synchronized (lock) {
+				if (pending.isEmpty() && scheduled == 0) {
+					while (!shutdown && pending.isEmpty()) {
+						try {
+							lock.wait();
+						} catch (final InterruptedException ignored) {
+						}
+					}
+					tick = (System.currentTimeMillis() - start) / tickDuration;
+				}
+				long now;
+				final long deadline = start + (tick + 1) * tickDuration;
+				while (!shutdown && (now = System.currentTimeMillis()) < deadline) {
+					try {
+						lock.wait(deadline - now);
+					} catch (final InterruptedException ignored) {
+					}
+				}
+				if (shutdown) {
+					return;
+				}
+				for (final Timeout timeout : pending) {
+					final long calculated = (timeout.deadline - start) / tickDuration;
+					timeout.rounds = Math.max(calculated - tick, 0) / wheel.length;
+					wheel[(int) (Math.max(calculated, tick) & mask)].add(timeout);
+					++scheduled;
+				}
+				pending.clear();
+				final Iterator<Timeout> slot = wheel[(int) (tick & mask)].iterator();
+				while (slot.hasNext()) {
+					final Timeout timeout = slot.next();
+					if (timeout.rounds <= 0) {
+						slot.remove();
+						--scheduled;
+						expired.add(timeout.task);
+					} else {
+						--timeout.rounds;
+					}
+				}
+				++tick;
+			}
+			for (final LoopTask task : expired) {
+				execute(task);
+			}
+		}
+	}
+
+	/**
+	 * A single iteration of a loop, attributed to the loop by <code>Metrics</code>.
+	 */
+	final class Iteration implements Task {
+		private final LoopTask task;
+
+		private Iteration(final LoopTask task) {
+			this.task = task;
+		}
+
+		LoopTask getLoop() {
+			return task;
+		}
+
+		public void run() {
+			iterate(task);
+		}
+	}
+
+	private static final class Timeout {
+		private final LoopTask task;
+		private final long deadline;
+		private long rounds;
+
+		private Timeout(final LoopTask task, final long deadline) {
+			this.task = task;
+			this.deadline = deadline;
+			this.rounds = 0;
+		}
+	}
+}
@@ -8,11 +8,13 @@ public abstract class LoopTask implements Task, EventListener {
 	private boolean running;
 	private boolean killed;
 	private Processor processor;
+	private Metrics.TaskStatistics statistics;
 
 	public LoopTask() {
 		running = true;
 		killed = false;
 		processor = null;
+		statistics = null;
 	}
 
 	public abstract int loop();
@@ -23,17 +25,41 @@ public abstract class LoopTask implements Task, EventListener {
 
 	@Override
 	public void run() {
-		while (running) {
-			final int wait = loop();
+		while (running && !CancellationToken.isCurrentCancelled()) {
+			final int wait = iterate();
 			if (wait > 0) {
 				Time.sleep(wait);
-			} else if (wait == -1) {
-				running = false;
-				kill();
 			}
 		}
 	}
 
+	/**
+	 * Performs a single iteration of this loop.
+	 *
+	 * @return The number of milliseconds to wait before the next iteration, or <code>-1</code> if this loop is finished.
+	 */
+	int iterate() {
+		if (!running) {
+			return -1;
+		}
+		if (statistics == null) {
+			statistics = Metrics.getTask(getClass().getName());
+		}
+		final long start = System.nanoTime(), cpu = Metrics.getCurrentThreadCpuTime();
+		final int wait;
+		try {
+			wait = loop();
+		} finally {
+			statistics.ran(System.nanoTime() - start, cpu == -1 ? -1 : Metrics.getCurrentThreadCpuTime() - cpu);
+		}
+		if (wait == -1) {
+			running = false;
+			kill();
+			return -1;
+		}
+		return Math.max(wait, 0);
+	}
+
 	public void start() {
 		running = true;
 	}
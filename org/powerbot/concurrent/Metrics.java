@@ -0,0 +1,313 @@
+package org.powerbot.concurrent;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * An in-process registry of the time and CPU spent by tasks and strategies, aggregated by class.
+ * All durations are in nanoseconds.
+ *
+ * @author Timer
+ */
+public final class Metrics {
+	private static final ConcurrentMap<String, TaskStatistics> tasks = new ConcurrentHashMap<String, TaskStatistics>();
+	private static final ConcurrentMap<String, StrategyStatistics> strategies = new ConcurrentHashMap<String, StrategyStatistics>();
+	private static final ThreadMXBean threads;
+	private static final boolean cpuTime;
+
+	static {
+		ThreadMXBean bean = null;
+		boolean supported = false;
+		try {
+			bean = ManagementFactory.getThreadMXBean();
+			supported = bean.isCurrentThreadCpuTimeSupported();
+			if (supported && !bean.isThreadCpuTimeEnabled()) {
+				bean.setThreadCpuTimeEnabled(true);
+			}
+		} catch (final UnsupportedOperationException ignored) {
+			supported = false;
+		} catch (final SecurityException ignored) {
+		}
+		threads = bean;
+		cpuTime = supported;
+	}
+
+	private Metrics() {
+	}
+
+	/**
+	 * @param name The name of the task class.
+	 * @return The statistics of the given task class.
+	 */
+	public static TaskStatistics getTask(final String name) {
+		TaskStatistics statistics = tasks.get(name);
+		if (statistics == null) {
+			final TaskStatistics created = new TaskStatistics(name);
+			statistics = tasks.putIfAbsent(name, created);
+			if (statistics == null) {
+				statistics = created;
+			}
+		}
+		return statistics;
+	}
+
+	/**
+	 * @param name The name of the strategy class.
+	 * @return The statistics of the given strategy class.
+	 */
+	public static StrategyStatistics getStrategy(final String name) {
+		StrategyStatistics statistics = strategies.get(name);
+		if (statistics == null) {
+			final StrategyStatistics created = new StrategyStatistics(name);
+			statistics = strategies.putIfAbsent(name, created);
+			if (statistics == null) {
+				statistics = created;
+			}
+		}
+		return statistics;
+	}
+
+	/**
+	 * @return The statistics of all task classes, most expensive first.
+	 */
+	public static TaskStatistics[] getTasks() {
+		final TaskStatistics[] statistics = tasks.values().toArray(new TaskStatistics[0]);
+		Arrays.sort(statistics, new Comparator<TaskStatistics>() {
+			public int compare(final TaskStatistics a, final TaskStatistics b) {
+				final long costA = cpuTime ? a.cpu.getTotal() : a.run.getTotal();
+				final long costB = cpuTime ? b.cpu.getTotal() : b.run.getTotal();
+				return costA < costB ? 1 : costA == costB ? 0 : -1;
+			}
+		});
+		return statistics;
+	}
+
+	/**
+	 * @return The statistics of all strategy classes, most expensive first.
+	 */
+	public static StrategyStatistics[] getStrategies() {
+		final StrategyStatistics[] statistics = strategies.values().toArray(new StrategyStatistics[0]);
+		Arrays.sort(statistics, new Comparator<StrategyStatistics>() {
+			public int compare(final StrategyStatistics a, final StrategyStatistics b) {
+				final long costA = a.validate.getTotal(), costB = b.validate.getTotal();
+				return costA < costB ? 1 : costA == costB ? 0 : -1;
+			}
+		});
+		return statistics;
+	}
+
+	/**
+	 * @return <tt>true</tt> if the CPU time of threads is measured; otherwise <tt>false</tt>.
+	 */
+	public static boolean isCpuTimeSupported() {
+		return cpuTime;
+	}
+
+	/**
+	 * @return The CPU time of the current thread, or <code>-1</code> if not measured.
+	 */
+	public static long getCurrentThreadCpuTime() {
+		return cpuTime ? threads.getCurrentThreadCpuTime() : -1;
+	}
+
+	/**
+	 * Discards all recorded statistics.
+	 */
+	public static void reset() {
+		tasks.clear();
+		strategies.clear();
+	}
+
+	/**
+	 * Logs a summary of all recorded statistics, most expensive first.
+	 *
+	 * @param log The <code>Logger</code> to write the summary to.
+	 */
+	public static void dump(final Logger log) {
+		for (final TaskStatistics statistics : getTasks()) {
+			log.log(Level.INFO, statistics.toString(), "Metrics");
+		}
+		for (final StrategyStatistics statistics : getStrategies()) {
+			log.log(Level.INFO, statistics.toString(), "Metrics");
+		}
+	}
+
+	static String getName(Object task) {
+		if (task instanceof LoopScheduler.Iteration) {
+			task = ((LoopScheduler.Iteration) task).getLoop();
+		}
+		return task.getClass().getName();
+	}
+
+	private static String format(final long nanos) {
+		return String.format("%.2fms", nanos / 1e6);
+	}
+
+	/**
+	 * The statistics of a task class.
+	 */
+	public static final class TaskStatistics {
+		private final String name;
+		private final AtomicLong submitted;
+		private final AtomicLong failed;
+		private final Histogram queue;
+		private final Histogram run;
+		private final Histogram cpu;
+
+		private TaskStatistics(final String name) {
+			this.name = name;
+			this.submitted = new AtomicLong();
+			this.failed = new AtomicLong();
+			this.queue = new Histogram();
+			this.run = new Histogram();
+			this.cpu = new Histogram();
+		}
+
+		public void submitted() {
+			submitted.incrementAndGet();
+		}
+
+		public void failed() {
+			failed.incrementAndGet();
+		}
+
+		/**
+		 * @param delay The time between submission and the start of execution.
+		 */
+		public void queued(final long delay) {
+			queue.record(delay);
+		}
+
+		/**
+		 * @param time    The time spent executing.
+		 * @param cpuTime The CPU time spent executing, or <code>-1</code> if not measured.
+		 */
+		public void ran(final long time, final long cpuTime) {
+			run.record(time);
+			if (cpuTime >= 0) {
+				cpu.record(cpuTime);
+			}
+		}
+
+		public String getName() {
+			return name;
+		}
+
+		public long getSubmittedCount() {
+			return submitted.get();
+		}
+
+		public long getFailedCount() {
+			return failed.get();
+		}
+
+		/**
+		 * @return The submit to start delays of this task class.
+		 */
+		public Histogram getQueueDelay() {
+			return queue;
+		}
+
+		/**
+		 * @return The run times of this task class; loops record one value per iteration.
+		 */
+		public Histogram getRunTime() {
+			return run;
+		}
+
+		/**
+		 * @return The thread CPU times of this task class; loops record one value per iteration.
+		 */
+		public Histogram getCpuTime() {
+			return cpu;
+		}
+
+		@Override
+		public String toString() {
+			return "task " + name + ": submitted=" + submitted.get() + " runs=" + run.getCount() + " failed=" + failed.get() +
+					" queue(p99)=" + format(queue.getPercentile(0.99)) +
+					" run(mean/p99/max)=" + format(run.getMean()) + "/" + format(run.getPercentile(0.99)) + "/" + format(run.getMax()) +
+					" cpu=" + format(cpu.getTotal());
+		}
+	}
+
+	/**
+	 * The statistics of a strategy class.
+	 */
+	public static final class StrategyStatistics {
+		private final String name;
+		private final AtomicLong hits;
+		private final Histogram validate;
+		private final Histogram resume;
+
+		private StrategyStatistics(final String name) {
+			this.name = name;
+			this.hits = new AtomicLong();
+			this.validate = new Histogram();
+			this.resume = new Histogram();
+		}
+
+		/**
+		 * @param time  The time spent validating.
+		 * @param valid <tt>true</tt> if the strategy validated.
+		 */
+		public void validated(final long time, final boolean valid) {
+			validate.record(time);
+			if (valid) {
+				hits.incrementAndGet();
+			}
+		}
+
+		/**
+		 * @param latency The time between the tasks of the strategy completing and its daemon waking from waiting upon them.
+		 */
+		public void resumed(final long latency) {
+			resume.record(latency);
+		}
+
+		public String getName() {
+			return name;
+		}
+
+		public long getHitCount() {
+			return hits.get();
+		}
+
+		/**
+		 * @return The ratio of validations that passed.
+		 */
+		public double getHitRate() {
+			final long count = validate.getCount();
+			return count > 0 ? (double) hits.get() / count : 0;
+		}
+
+		/**
+		 * @return The validation times of this strategy class.
+		 */
+		public Histogram getValidateTime() {
+			return validate;
+		}
+
+		/**
+		 * @return The times between the tasks of this strategy class completing and their daemon waking from waiting upon them.
+		 */
+		public Histogram getResumeLatency() {
+			return resume;
+		}
+
+		@Override
+		public String toString() {
+			return "strategy " + name + ": validations=" + validate.getCount() + " hit=" + String.format("%.1f%%", getHitRate() * 100) +
+					" validate(mean/p99/max)=" + format(validate.getMean()) + "/" + format(validate.getPercentile(0.99)) + "/" +
+					format(validate.getMax()) + " total=" + format(validate.getTotal()) +
+					" resume(mean/p99)=" + format(resume.getMean()) + "/" + format(resume.getPercentile(0.99));
+		}
+	}
+}
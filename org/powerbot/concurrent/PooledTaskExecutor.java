@@ -0,0 +1,255 @@
+package org.powerbot.concurrent;
+
+import java.util.LinkedList;
+import java.util.List;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * An executor that deploys tasks on a bounded set of reusable threads provided by its factory.
+ * Threads beyond the core size are reaped after being idle for the keep alive period.
+ *
+ * @author Timer
+ */
+public class PooledTaskExecutor extends TaskExecutor {
+	/**
+	 * The policies available when a task can neither be handed to a thread nor queued.
+	 */
+	public static enum Rejection {
+		/**
+		 * Throws a <code>RejectedExecutionException</code> to the submitter.
+		 */
+		ABORT,
+		/**
+		 * Runs the task on the submitting thread.
+		 */
+		CALLER_RUNS,
+		/**
+		 * Cancels the submitted task.
+		 */
+		DISCARD,
+		/**
+		 * Cancels the oldest queued task and queues the submitted task.
+		 */
+		DISCARD_OLDEST
+	}
+
+	private final int coreSize;
+	private final int maxSize;
+	private final long keepAlive;
+	private final int capacity;
+	private final Rejection rejection;
+
+	private final LinkedList<Runnable> queue;
+	private final List<Thread> workers;
+	private final Object lock;
+	private int idle;
+	private int active;
+
+	/**
+	 * @param factory   The factory to create worker threads with.
+	 * @param coreSize  The number of threads kept alive while idle.
+	 * @param maxSize   The maximum number of threads alive at once.
+	 * @param keepAlive The number of milliseconds a thread beyond the core size may idle before being reaped.
+	 * @param capacity  The maximum number of tasks waiting for a thread.
+	 * @param rejection The policy to apply when a task cannot be accepted.
+	 */
+	public PooledTaskExecutor(final ThreadFactory factory, final int coreSize, final int maxSize, final long keepAlive,
+	                          final int capacity, final Rejection rejection) {
+		super(factory);
+		if (coreSize < 0 || maxSize <= 0 || maxSize < coreSize || keepAlive < 0 || capacity < 0) {
+			throw new IllegalArgumentException();
+		}
+		if (rejection == null) {
+			throw new NullPointerException();
+		}
+		this.coreSize = coreSize;
+		this.maxSize = maxSize;
+		this.keepAlive = keepAlive;
+		this.capacity = capacity;
+		this.rejection = rejection;
+		this.queue = new LinkedList<Runnable>();
+		this.workers = new LinkedList<Thread>();
+		this.lock = new Object();
+		this.idle = 0;
+		this.active = 0;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public int getActiveCount() {
+		synchronized (lock) {
+			return active;
+		}
+	}
+
+	/**
+	 * @return The number of threads currently alive in this pool.
+	 */
+	public int getPoolSize() {
+		synchronized (lock) {
+			return workers.size();
+		}
+	}
+
+	/**
+	 * @return The number of tasks waiting for a thread.
+	 */
+	public int getQueueSize() {
+		synchronized (lock) {
+			return queue.size();
+		}
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void shutdown() {
+		synchronized (lock) {
+			shutdown = true;
+			if (workers.size() == 0) {
+				terminated = true;
+			}
+			lock.notifyAll();
+		}
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void shutdownNow() {
+		final List<Runnable> pending;
+		synchronized (lock) {
+			shutdown = true;
+			terminated = true;
+			pending = new LinkedList<Runnable>(queue);
+			queue.clear();
+			for (final Thread worker : workers) {
+				worker.interrupt();
+			}
+			lock.notifyAll();
+		}
+		token.cancel();
+		for (final Runnable runnable : pending) {
+			cancel(runnable);
+		}
+	}
+
+	@Override
+	protected void execute(final Runnable runnable) {
+		Runnable discarded = null;
+		synchronized (lock) {
+			if (shutdown) {
+				throw new RejectedExecutionException();
+			}
+			if (idle > queue.size()) {
+				queue.add(runnable);
+				lock.notify();
+				return;
+			}
+			if (workers.size() < maxSize) {
+				spawn(runnable);
+				return;
+			}
+			if (queue.size() < capacity) {
+				queue.add(runnable);
+				return;
+			}
+			switch (rejection) {
+			case DISCARD_OLDEST:
+				if (queue.size() > 0) {
+					discarded = queue.removeFirst();
+					queue.add(runnable);
+					break;
+				}
+				discarded = runnable;
+				break;
+			case DISCARD:
+				discarded = runnable;
+				break;
+			case CALLER_RUNS:
+				break;
+			default:
+				throw new RejectedExecutionException();
+			}
+		}
+		if (discarded != null) {
+			cancel(discarded);
+		} else {
+			runnable.run();
+		}
+	}
+
+	private void spawn(final Runnable first) {
+		final Thread thread = factory.newThread(new Runnable() {
+			public void run() {
+				work(first);
+			}
+		});
+		workers.add(thread);
+		thread.start();
+	}
+
+	private void work(Runnable runnable) {
+		final Thread thread = Thread.currentThread();
+		try {
+			while (runnable != null) {
+				synchronized (lock) {
+					++active;
+				}
+				try {
+					runnable.run();
+				} finally {
+					synchronized (lock) {
+						--active;
+					}
+					Thread.interrupted();
+				}
+				runnable = next();
+			}
+		} finally {
+			synchronized (lock) {
+				workers.remove(thread);
+				if (workers.size() == 0 && shutdown) {
+					terminated = true;
+				}
+			}
+		}
+	}
+
+	private Runnable next() {
+		synchronized (lock) {
+			while (queue.isEmpty()) {
+				if (shutdown || terminated) {
+					return null;
+				}
+				final boolean reapable = workers.size() > coreSize;
+				final long start = System.currentTimeMillis();
+				++idle;
+				try {
+					lock.wait(reapable ? Math.max(keepAlive, 1) : 0);
+				} catch (final InterruptedException ignored) {
+				} finally {
+					--idle;
+				}
+				if (queue.isEmpty() && reapable && workers.size() > coreSize &&
+						System.currentTimeMillis() - start >= keepAlive) {
+					workers.remove(Thread.currentThread());
+					return null;
+				}
+			}
+			return queue.removeFirst();
+		}
+	}
+
+	private void cancel(final Runnable runnable) {
+		if (runnable instanceof Future) {
+			((Future<?>) runnable).cancel(false);
+		}
+	}
+}
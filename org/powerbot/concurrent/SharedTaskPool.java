@@ -0,0 +1,475 @@
+package org.powerbot.concurrent;
+
+import java.util.LinkedList;
+import java.util.List;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+
+import org.powerbot.util.Configuration;
+
+/**
+ * A process-wide pool multiplexing the tasks of every bot onto a fixed set of carrier threads.
+ * Each bot submits through its own lane; carriers serve lanes by weighted fair queuing on the time their tasks consumed,
+ * a lane runs on no more carriers than its weighted share of the pool,
+ * and a lane that spent its CPU quota within the current window is not served until the window rolls over.
+ * <p/>
+ * Tasks are charged each time they block through <code>release()</code> (as <code>Time.sleep</code> and waiting on a
+ * <code>TaskFuture</code> do) and again when they return; a blocked task gives up its carrier, which is replaced
+ * by a spare if none is idle, and resumes only once its lane is within its share and quota again.
+ * Tasks that never block are charged when they return and cannot be throttled before then.
+ * Carriers are bound to the thread group of the lane they serve so context resolution is retained.
+ *
+ * @author Timer
+ */
+public class SharedTaskPool {
+	/**
+	 * The length in nanoseconds of the window CPU quotas apply to.
+	 */
+	private static final long WINDOW = 1000000000L;
+	private static final ThreadLocal<Carrier> carrier = new ThreadLocal<Carrier>();
+	private static SharedTaskPool instance;
+
+	private final List<Lane> lanes;
+	private final Object lock;
+	private final ThreadPool factory;
+	private final int parallelism;
+	private int threads;
+	private int idle;
+	private int active;
+	private int blocked;
+	private long virtualTime;
+
+	/**
+	 * @param threadGroup The <code>ThreadGroup</code> the carrier threads belong to.
+	 * @param carriers    The number of carrier threads.
+	 */
+	public SharedTaskPool(final ThreadGroup threadGroup, final int carriers) {
+		if (carriers <= 0) {
+			throw new IllegalArgumentException();
+		}
+		this.lanes = new LinkedList<Lane>();
+		this.lock = new Object();
+		this.factory = new ThreadPool(threadGroup);
+		this.parallelism = carriers;
+		this.threads = 0;
+		this.idle = 0;
+		this.active = 0;
+		this.blocked = 0;
+		this.virtualTime = 0;
+		synchronized (lock) {
+			for (int i = 0; i < carriers; i++) {
+				spawn();
+			}
+		}
+	}
+
+	/**
+	 * @return The process-wide pool, created upon first use with the configured number of carriers.
+	 */
+	public static synchronized SharedTaskPool getInstance() {
+		if (instance == null) {
+			final int carriers = Configuration.SHAREDPOOL > 0 ? Configuration.SHAREDPOOL : Runtime.getRuntime().availableProcessors();
+			ThreadGroup root = Thread.currentThread().getThreadGroup();
+			while (root.getParent() != null) {
+				root = root.getParent();
+			}
+			instance = new SharedTaskPool(new ThreadGroup(root, "SharedTaskPool"), carriers);
+		}
+		return instance;
+	}
+
+	/**
+	 * Opens a lane for the provided group with a weight of one and the configured CPU quota.
+	 *
+	 * @param threadGroup The <code>ThreadGroup</code> tasks of the lane execute on behalf of.
+	 * @return The <code>Lane</code> to submit tasks through.
+	 */
+	public Lane open(final ThreadGroup threadGroup) {
+		final Lane lane = new Lane(threadGroup);
+		lane.setQuota(Configuration.SHAREDPOOLQUOTA);
+		synchronized (lock) {
+			lanes.add(lane);
+		}
+		return lane;
+	}
+
+	/**
+	 * @return The number of lanes currently open.
+	 */
+	public int getLaneCount() {
+		synchronized (lock) {
+			return lanes.size();
+		}
+	}
+
+	/**
+	 * Gives up the carrier of the current thread while it blocks, charging its lane for the time consumed so far.
+	 * Must be paired with <code>acquire()</code> once the thread stops blocking.
+	 *
+	 * @return <tt>true</tt> if the current thread is a carrier of a shared pool and gave up its carrier; otherwise <tt>false</tt>.
+	 */
+	public static boolean release() {
+		final Carrier carrier = SharedTaskPool.carrier.get();
+		return carrier != null && carrier.release();
+	}
+
+	/**
+	 * Resumes the task of the current thread after <code>release()</code>,
+	 * waiting until its lane is within its share of the pool and its CPU quota.
+	 */
+	public static void acquire() {
+		final Carrier carrier = SharedTaskPool.carrier.get();
+		if (carrier != null) {
+			carrier.acquire();
+		}
+	}
+
+	private void spawn() {
+		final Thread thread = factory.newThread(new Runnable() {
+			public void run() {
+				carry();
+			}
+		});
+		thread.setDaemon(true);
+		++threads;
+		thread.start();
+	}
+
+	private void carry() {
+		ThreadPool.unbind();
+		final Thread thread = Thread.currentThread();
+		final Carrier carrier = new Carrier();
+		SharedTaskPool.carrier.set(carrier);
+		while (true) {
+			final Lane lane;
+			final Runnable runnable;
+			synchronized (lock) {
+				Lane selected = null;
+				++idle;
+				try {
+					while (active >= parallelism || (selected = select()) == null) {
+						if (threads - blocked > parallelism) {
+							--threads;
+							return;
+						}
+						try {
+							lock.wait(getThrottleDelay());
+						} catch (final InterruptedException ignored) {
+						}
+					}
+				} finally {
+					--idle;
+				}
+				lane = selected;
+				runnable = lane.queue.removeFirst();
+				virtualTime = lane.virtualTime;
+				++lane.running;
+				++active;
+				lane.carriers.add(thread);
+			}
+			carrier.lane = lane;
+			carrier.checkpoint = clock();
+			ThreadPool.bind(lane.threadGroup);
+			try {
+				runnable.run();
+			} catch (final Throwable ignored) {
+			} finally {
+				ThreadPool.unbind();
+				final long cost = clock() - carrier.checkpoint;
+				carrier.lane = null;
+				synchronized (lock) {
+					--lane.running;
+					--active;
+					lane.carriers.remove(thread);
+					lane.charge(cost);
+					lane.update();
+					lock.notifyAll();
+				}
+				Thread.interrupted();
+			}
+		}
+	}
+
+	/**
+	 * @return The CPU time of the current thread in nanoseconds, or the system time if it is not measured.
+	 */
+	private static long clock() {
+		final long cpu = Metrics.getCurrentThreadCpuTime();
+		return cpu != -1 ? cpu : System.nanoTime();
+	}
+
+	/**
+	 * The number of carriers a lane may occupy at once: its weighted portion of the pool among the lanes with work, at least one.
+	 *
+	 * @param lane The lane to determine the share of.
+	 * @return The number of carriers the lane may occupy.
+	 */
+	private int share(final Lane lane) {
+		int total = lane.weight;
+		for (final Lane other : lanes) {
+			if (other != lane && (other.running > 0 || !other.queue.isEmpty())) {
+				total += other.weight;
+			}
+		}
+		return Math.max(parallelism * lane.weight / total, 1);
+	}
+
+	/**
+	 * Selects the lane with the least weighted service among those with queued tasks, a free share and quota remaining.
+	 *
+	 * @return The <code>Lane</code> to serve, or <code>null</code> if none is eligible.
+	 */
+	private Lane select() {
+		final long now = System.nanoTime();
+		Lane selected = null;
+		for (final Lane lane : lanes) {
+			if (lane.queue.isEmpty() || lane.running >= share(lane) || lane.isThrottled(now)) {
+				continue;
+			}
+			if (selected == null || lane.virtualTime < selected.virtualTime) {
+				selected = lane;
+			}
+		}
+		return selected;
+	}
+
+	/**
+	 * @return The number of milliseconds until a throttled lane with queued tasks regains its quota, or <code>0</code> if none is throttled.
+	 */
+	private long getThrottleDelay() {
+		final long now = System.nanoTime();
+		long delay = 0;
+		for (final Lane lane : lanes) {
+			if (!lane.queue.isEmpty() && lane.isThrottled(now)) {
+				final long remaining = lane.getThrottleDelay(now);
+				if (delay == 0 || remaining < delay) {
+					delay = remaining;
+				}
+			}
+		}
+		return delay;
+	}
+
+	/**
+	 * The state of a carrier thread: the lane it is serving and the time it last charged that lane up to.
+	 */
+	private final class Carrier {
+		private Lane lane;
+		private long checkpoint;
+		private boolean parked;
+
+		private boolean release() {
+			if (lane == null || parked) {
+				return false;
+			}
+			final long cost = clock() - checkpoint;
+			synchronized (lock) {
+				parked = true;
+				--lane.running;
+				--active;
+				++blocked;
+				lane.charge(cost);
+				if (idle == 0 && threads - blocked < parallelism) {
+					spawn();
+				}
+				lock.notifyAll();
+			}
+			return true;
+		}
+
+		private void acquire() {
+			if (!parked) {
+				return;
+			}
+			boolean interrupted = false;
+			synchronized (lock) {
+				--blocked;
+				lock.notifyAll();
+				while (!lane.terminated && (active >= parallelism || lane.running >= share(lane) || lane.isThrottled(System.nanoTime()))) {
+					final long now = System.nanoTime();
+					try {
+						lock.wait(lane.isThrottled(now) ? lane.getThrottleDelay(now) : 0);
+					} catch (final InterruptedException ignored) {
+						interrupted = true;
+						break;
+					}
+				}
+				++lane.running;
+				++active;
+				parked = false;
+			}
+			checkpoint = clock();
+			if (interrupted) {
+				Thread.currentThread().interrupt();
+			}
+		}
+	}
+
+	/**
+	 * The executor of a single bot within the shared pool.
+	 */
+	public final class Lane extends TaskExecutor {
+		private final ThreadGroup threadGroup;
+		private final LinkedList<Runnable> queue;
+		private final List<Thread> carriers;
+		private int running;
+		private int weight;
+		private long quota;
+		private long virtualTime;
+		private long windowStart;
+		private long windowUsed;
+		private long consumed;
+
+		private Lane(final ThreadGroup threadGroup) {
+			super(new ThreadPool(threadGroup));
+			this.threadGroup = threadGroup;
+			this.queue = new LinkedList<Runnable>();
+			this.carriers = new LinkedList<Thread>();
+			this.running = 0;
+			this.weight = 1;
+			this.quota = 0;
+			this.virtualTime = 0;
+			this.windowStart = System.nanoTime();
+			this.windowUsed = 0;
+			this.consumed = 0;
+		}
+
+		/**
+		 * Sets the share of carrier time this lane receives relative to other lanes.
+		 *
+		 * @param weight The weight of this lane; at least one.
+		 */
+		public void setWeight(final int weight) {
+			if (weight <= 0) {
+				throw new IllegalArgumentException();
+			}
+			synchronized (lock) {
+				this.weight = weight;
+			}
+		}
+
+		/**
+		 * Sets the CPU time this lane may consume per second.
+		 *
+		 * @param percent The percentage of a single core this lane may consume, or <code>0</code> for no limit.
+		 */
+		public void setQuota(final int percent) {
+			if (percent < 0) {
+				throw new IllegalArgumentException();
+			}
+			synchronized (lock) {
+				this.quota = WINDOW / 100 * percent;
+				lock.notifyAll();
+			}
+		}
+
+		/**
+		 * @return The CPU time (or run time, if not measured) in nanoseconds consumed by tasks of this lane.
+		 */
+		public long getConsumedTime() {
+			synchronized (lock) {
+				return consumed;
+			}
+		}
+
+		/**
+		 * @return The number of tasks waiting for a carrier.
+		 */
+		public int getQueueSize() {
+			synchronized (lock) {
+				return queue.size();
+			}
+		}
+
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		public int getActiveCount() {
+			synchronized (lock) {
+				return running;
+			}
+		}
+
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		public void shutdown() {
+			synchronized (lock) {
+				shutdown = true;
+				update();
+			}
+		}
+
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		public void shutdownNow() {
+			final List<Runnable> pending;
+			synchronized (lock) {
+				shutdown = true;
+				terminated = true;
+				pending = new LinkedList<Runnable>(queue);
+				queue.clear();
+				for (final Thread carrier : carriers) {
+					carrier.interrupt();
+				}
+				lanes.remove(this);
+			}
+			token.cancel();
+			for (final Runnable runnable : pending) {
+				if (runnable instanceof Future) {
+					((Future<?>) runnable).cancel(false);
+				}
+			}
+		}
+
+		@Override
+		protected void execute(final Runnable runnable) {
+			synchronized (lock) {
+				if (shutdown) {
+					throw new RejectedExecutionException();
+				}
+				if (queue.isEmpty() && running == 0 && virtualTime < SharedTaskPool.this.virtualTime) {
+					virtualTime = SharedTaskPool.this.virtualTime;
+				}
+				queue.add(runnable);
+				lock.notify();
+			}
+		}
+
+		private boolean isThrottled(final long now) {
+			if (quota == 0) {
+				return false;
+			}
+			if (now - windowStart >= WINDOW) {
+				windowStart = now;
+				windowUsed = 0;
+			}
+			return windowUsed >= quota;
+		}
+
+		/**
+		 * @param now The current system time in nanoseconds.
+		 * @return The number of milliseconds until this lane's window rolls over; at least one.
+		 */
+		private long getThrottleDelay(final long now) {
+			return Math.max((windowStart + WINDOW - now) / 1000000L, 1);
+		}
+
+		private void charge(final long cost) {
+			virtualTime += cost / weight;
+			windowUsed += cost;
+			consumed += cost;
+		}
+
+		private void update() {
+			if (shutdown && running == 0 && queue.isEmpty()) {
+				terminated = true;
+				lanes.remove(this);
+			}
+		}
+	}
+}
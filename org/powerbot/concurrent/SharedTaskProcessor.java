@@ -0,0 +1,27 @@
+package org.powerbot.concurrent;
+
+/**
+ * A container deploying tasks through a lane of the process-wide <code>SharedTaskPool</code> rather than threads of its own.
+ * Tasks are bound to the provided thread group so context resolution is retained.
+ *
+ * @author Timer
+ */
+public class SharedTaskProcessor extends TaskProcessor {
+	private final SharedTaskPool.Lane lane;
+
+	public SharedTaskProcessor(final ThreadGroup threadGroup) {
+		this(SharedTaskPool.getInstance().open(threadGroup));
+	}
+
+	private SharedTaskProcessor(final SharedTaskPool.Lane lane) {
+		super(lane);
+		this.lane = lane;
+	}
+
+	/**
+	 * @return The <code>Lane</code> of the shared pool tasks of this container are deployed through.
+	 */
+	public SharedTaskPool.Lane getLane() {
+		return lane;
+	}
+}
@@ -5,21 +5,27 @@ import java.util.LinkedList;
 import java.util.List;
 import java.util.concurrent.Callable;
 import java.util.concurrent.Future;
-import java.util.concurrent.FutureTask;
 import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.RunnableFuture;
 import java.util.concurrent.ThreadFactory;
 
+/**
+ * An executor that deploys every task on a new thread provided by its factory.
+ *
+ * @author Timer
+ */
 public class TaskExecutor {
-	private ThreadFactory factory;
-	private boolean shutdown;
-	private boolean terminated;
+	protected final ThreadFactory factory;
+	protected volatile boolean shutdown;
+	protected volatile boolean terminated;
+	protected final CancellationToken token;
 	private final List<Thread> threads;
 
 	public TaskExecutor(final ThreadFactory factory) {
 		this.factory = factory;
 		this.shutdown = false;
 		this.terminated = false;
+		this.token = new CancellationToken();
 		this.threads = Collections.synchronizedList(new LinkedList<Thread>());
 	}
 
@@ -59,6 +65,7 @@ public class TaskExecutor {
 
 	public void shutdownNow() {
 		terminated = true;
+		token.cancel();
 
 		while (threads.size() > 0) {
 			final Thread thread = threads.remove(0);
@@ -66,15 +73,15 @@ public class TaskExecutor {
 		}
 	}
 
-	private <T> RunnableFuture<T> newTaskFor(final Runnable runnable, final T value) {
-		return new FutureTask<T>(runnable, value);
+	protected <T> RunnableFuture<T> newTaskFor(final Runnable runnable, final T value) {
+		return new TaskFuture<T>(runnable, value, token);
 	}
 
-	private <T> RunnableFuture<T> newTaskFor(final Callable<T> callable) {
-		return new FutureTask<T>(callable);
+	protected <T> RunnableFuture<T> newTaskFor(final Callable<T> callable) {
+		return new TaskFuture<T>(callable, token);
 	}
 
-	private void execute(final Runnable runnable) {
+	protected void execute(final Runnable runnable) {
 		if (shutdown) {
 			throw new RejectedExecutionException();
 		}
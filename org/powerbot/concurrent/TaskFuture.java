@@ -0,0 +1,202 @@
+package org.powerbot.concurrent;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * The <code>Future</code> of a submitted task that invokes listeners once it completes, is cancelled or fails.
+ *
+ * @author Timer
+ */
+public class TaskFuture<V> extends FutureTask<V> {
+	private final List<Runnable> listeners;
+	private boolean completed;
+	private final Metrics.TaskStatistics statistics;
+	private final boolean iterated;
+	private final long submitted;
+
+	private final CancellationToken token;
+
+	public TaskFuture(final Runnable runnable, final V result) {
+		this(runnable, result, null);
+	}
+
+	/**
+	 * @param runnable The task to execute.
+	 * @param result   The result to return upon completion.
+	 * @param parent   The token whose cancellation cancels this task; may be <code>null</code>.
+	 */
+	public TaskFuture(final Runnable runnable, final V result, final CancellationToken parent) {
+		super(runnable, result);
+		token = new CancellationToken(parent, 0);
+		listeners = new ArrayList<Runnable>();
+		completed = false;
+		statistics = Metrics.getTask(Metrics.getName(runnable));
+		iterated = runnable instanceof LoopTask || runnable instanceof LoopScheduler.Iteration;
+		submitted = System.nanoTime();
+		statistics.submitted();
+	}
+
+	public TaskFuture(final Callable<V> callable) {
+		this(callable, null);
+	}
+
+	/**
+	 * @param callable The task to execute.
+	 * @param parent   The token whose cancellation cancels this task; may be <code>null</code>.
+	 */
+	public TaskFuture(final Callable<V> callable, final CancellationToken parent) {
+		super(callable);
+		token = new CancellationToken(parent, 0);
+		listeners = new ArrayList<Runnable>();
+		completed = false;
+		statistics = Metrics.getTask(Metrics.getName(callable));
+		iterated = false;
+		submitted = System.nanoTime();
+		statistics.submitted();
+	}
+
+	/**
+	 * @return The cancellation token bound to the thread executing this task.
+	 */
+	public CancellationToken getToken() {
+		return token;
+	}
+
+	/**
+	 * Executes the task with its cancellation token bound, recording its queue delay and,
+	 * unless it is a loop recording its own iterations, its run and CPU time.
+	 */
+	@Override
+	public void run() {
+		if (isDone()) {
+			super.run();
+			return;
+		}
+		final long start = System.nanoTime();
+		statistics.queued(start - submitted);
+		final CancellationToken previous = token.bind();
+		try {
+			if (iterated) {
+				super.run();
+				return;
+			}
+			final long cpu = Metrics.getCurrentThreadCpuTime();
+			try {
+				super.run();
+			} finally {
+				statistics.ran(System.nanoTime() - start, cpu == -1 ? -1 : Metrics.getCurrentThreadCpuTime() - cpu);
+			}
+		} finally {
+			token.unbind(previous);
+		}
+	}
+
+	/**
+	 * Cancels this task, additionally cancelling its token so that an executing task returns from blocking helpers.
+	 *
+	 * @param mayInterruptIfRunning <tt>true</tt> to interrupt the thread executing this task.
+	 * @return <tt>false</tt> if this task could not be cancelled; otherwise <tt>true</tt>.
+	 */
+	@Override
+	public boolean cancel(final boolean mayInterruptIfRunning) {
+		token.cancel();
+		return super.cancel(mayInterruptIfRunning);
+	}
+
+	/**
+	 * Waits for this task to complete, giving up the carrier of the calling thread meanwhile if it is a task of a shared pool,
+	 * so tasks waiting on tasks of their own lane cannot exhaust its carriers.
+	 *
+	 * @return The result of this task.
+	 * @throws InterruptedException If the calling thread was interrupted while waiting.
+	 * @throws ExecutionException   If this task failed.
+	 */
+	@Override
+	public V get() throws InterruptedException, ExecutionException {
+		if (isDone()) {
+			return super.get();
+		}
+		final boolean released = SharedTaskPool.release();
+		try {
+			return super.get();
+		} finally {
+			if (released) {
+				SharedTaskPool.acquire();
+			}
+		}
+	}
+
+	/**
+	 * Waits at most the given time for this task to complete, giving up the carrier of the calling thread meanwhile
+	 * if it is a task of a shared pool.
+	 *
+	 * @param timeout The maximum time to wait.
+	 * @param unit    The unit of the timeout.
+	 * @return The result of this task.
+	 * @throws InterruptedException If the calling thread was interrupted while waiting.
+	 * @throws ExecutionException   If this task failed.
+	 * @throws TimeoutException     If this task did not complete in time.
+	 */
+	@Override
+	public V get(final long timeout, final TimeUnit unit) throws InterruptedException, ExecutionException, TimeoutException {
+		if (isDone()) {
+			return super.get(timeout, unit);
+		}
+		final boolean released = SharedTaskPool.release();
+		try {
+			return super.get(timeout, unit);
+		} finally {
+			if (released) {
+				SharedTaskPool.acquire();
+			}
+		}
+	}
+
+	/**
+	 * Adds a listener to be invoked upon completion of this future.
+	 * The listener is invoked immediately on the calling thread if this future has already completed;
+	 * otherwise on the thread completing it.
+	 *
+	 * @param listener The <code>Runnable</code> to invoke.
+	 */
+	public void addListener(final Runnable listener) {
+		synchronized (listeners) {
+			if (!completed) {
+				listeners.add(listener);
+				return;
+			}
+		}
+		listener.run();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	protected void setException(final Throwable t) {
+		statistics.failed();
+		super.setException(t);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	protected void done() {
+		final Runnable[] listeners;
+		synchronized (this.listeners) {
+			completed = true;
+			listeners = this.listeners.toArray(new Runnable[this.listeners.size()]);
+			this.listeners.clear();
+		}
+		for (final Runnable listener : listeners) {
+			listener.run();
+		}
+	}
+}
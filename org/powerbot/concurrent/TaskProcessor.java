@@ -14,6 +14,25 @@ public class TaskProcessor implements TaskContainer {
 		executor = new TaskExecutor(new ThreadPool(threadGroup));
 	}
 
+	protected TaskProcessor(final TaskExecutor executor) {
+		this.executor = executor;
+	}
+
+	/**
+	 * Initializes this processor to deploy tasks on reusable threads within the provided group.
+	 *
+	 * @param threadGroup The <code>ThreadGroup</code> all threads of this processor belong to.
+	 * @param coreSize    The number of threads kept alive while idle.
+	 * @param maxSize     The maximum number of threads alive at once.
+	 * @param keepAlive   The number of milliseconds a thread beyond the core size may idle before being reaped.
+	 * @param capacity    The maximum number of tasks waiting for a thread.
+	 * @param rejection   The policy to apply when a task cannot be accepted.
+	 */
+	public TaskProcessor(final ThreadGroup threadGroup, final int coreSize, final int maxSize, final long keepAlive,
+	                     final int capacity, final PooledTaskExecutor.Rejection rejection) {
+		executor = new PooledTaskExecutor(new ThreadPool(threadGroup), coreSize, maxSize, keepAlive, capacity, rejection);
+	}
+
 	/**
 	 * {@inheritDoc}
 	 */
@@ -11,6 +11,8 @@ import java.util.concurrent.atomic.AtomicInteger;
 public class ThreadPool implements ThreadFactory {
 	public static final String THREADGROUPNAMEPREFIX = "ThreadPool-";
 
+	private static final ThreadLocal<ThreadGroup> bindings = new InheritableThreadLocal<ThreadGroup>();
+
 	private final AtomicInteger threadNumber;
 	private final ThreadGroup threadGroup;
 
@@ -29,4 +31,23 @@ public class ThreadPool implements ThreadFactory {
 		builder.append("#").append(threadNumber.getAndIncrement());
 		return new Thread(threadGroup, r, builder.toString());
 	}
-}
\ No newline at end of file
+
+	/**
+	 * Returns the group the current thread operates on behalf of.
+	 * Threads that cannot be created within a group (such as virtual threads) are bound to one while executing tasks.
+	 *
+	 * @return The bound <code>ThreadGroup</code> of the current thread; otherwise the group it belongs to.
+	 */
+	public static ThreadGroup getThreadGroup() {
+		final ThreadGroup threadGroup = bindings.get();
+		return threadGroup != null ? threadGroup : Thread.currentThread().getThreadGroup();
+	}
+
+	static void bind(final ThreadGroup threadGroup) {
+		bindings.set(threadGroup);
+	}
+
+	static void unbind() {
+		bindings.remove();
+	}
+}
@@ -0,0 +1,22 @@
+package org.powerbot.concurrent;
+
+/**
+ * A container deploying each task on its own virtual thread, allowing many blocking tasks without a platform thread each.
+ * Tasks are bound to the provided thread group so context resolution is retained.
+ *
+ * @author Timer
+ */
+public class VirtualTaskProcessor extends TaskProcessor {
+	public VirtualTaskProcessor(final ThreadGroup threadGroup) {
+		super(new TaskExecutor(new VirtualThreadPool(threadGroup)));
+	}
+
+	/**
+	 * Determines if this container is able to be created within the current runtime.
+	 *
+	 * @return <tt>true</tt> if virtual threads are available; otherwise <tt>false</tt>.
+	 */
+	public static boolean isSupported() {
+		return VirtualThreadPool.isSupported();
+	}
+}
@@ -0,0 +1,88 @@
+package org.powerbot.concurrent;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * A thread factory creating virtual threads bound to a bot's thread group (for context) while they execute.
+ * Virtual threads are only available on runtimes that provide <code>Thread.ofVirtual</code> and permit creating them,
+ * which is probed once by building an unstarted virtual thread (runtimes with virtual threads in preview refuse it).
+ *
+ * @author Timer
+ */
+public class VirtualThreadPool implements ThreadFactory {
+	public static final String THREADNAMEPREFIX = "VirtualThreadPool-";
+
+	private static final Method OF_VIRTUAL, NAME, FACTORY;
+	private static final boolean SUPPORTED;
+
+	private final ThreadGroup threadGroup;
+	private final ThreadFactory factory;
+
+	static {
+		Method ofVirtual = null, name = null, factory = null;
+		try {
+			final Class<?> builder = Class.forName("java.lang.Thread$Builder");
+			ofVirtual = Thread.class.getMethod("ofVirtual");
+			name = builder.getMethod("name", String.class, long.class);
+			factory = builder.getMethod("factory");
+		} catch (final ClassNotFoundException ignored) {
+		} catch (final NoSuchMethodException ignored) {
+		}
+		OF_VIRTUAL = ofVirtual;
+		NAME = name;
+		FACTORY = factory;
+		boolean supported = false;
+		if (ofVirtual != null && name != null && factory != null) {
+			try {
+				final ThreadFactory probe = (ThreadFactory) factory.invoke(ofVirtual.invoke(null));
+				supported = probe.newThread(new Runnable() {
+					public void run() {
+					}
+				}) != null;
+			} catch (final Exception ignored) {
+			} catch (final LinkageError ignored) {
+			}
+		}
+		SUPPORTED = supported;
+	}
+
+	public VirtualThreadPool(final ThreadGroup threadGroup) {
+		if (!isSupported()) {
+			throw new UnsupportedOperationException("virtual threads are not supported by this runtime");
+		}
+		this.threadGroup = threadGroup;
+		try {
+			Object builder = OF_VIRTUAL.invoke(null);
+			builder = NAME.invoke(builder, THREADNAMEPREFIX + hashCode() + "/" + threadGroup.getName() + "#", 1L);
+			factory = (ThreadFactory) FACTORY.invoke(builder);
+		} catch (final Exception e) {
+			throw new UnsupportedOperationException("unable to create virtual thread factory", e);
+		}
+	}
+
+	/**
+	 * Determines if the current runtime is able to create virtual threads.
+	 *
+	 * @return <tt>true</tt> if virtual threads are available; otherwise <tt>false</tt>.
+	 */
+	public static boolean isSupported() {
+		return SUPPORTED;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	public Thread newThread(final Runnable r) {
+		return factory.newThread(new Runnable() {
+			public void run() {
+				ThreadPool.bind(threadGroup);
+				try {
+					r.run();
+				} finally {
+					ThreadPool.unbind();
+				}
+			}
+		});
+	}
+}
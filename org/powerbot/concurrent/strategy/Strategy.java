@@ -3,6 +3,7 @@ package org.powerbot.concurrent.strategy;
 import java.util.EventListener;
 import java.util.concurrent.Future;
 
+import org.powerbot.concurrent.Metrics;
 import org.powerbot.concurrent.Task;
 
 /**
@@ -14,9 +15,13 @@ public class Strategy implements Condition, EventListener {
 	boolean lock;
 	boolean reset;
 	boolean sync;
+	int triggers;
+	int staleness;
+	long evaluated;
 
 	Task[] tasks;
 	Future<?>[] executingFutures;
+	private Metrics.StrategyStatistics statistics;
 
 	private Condition policy;
 
@@ -68,7 +73,11 @@ public class Strategy implements Condition, EventListener {
 		lock = true;
 		reset = false;
 		sync = true;
+		triggers = 0;
+		staleness = 0;
+		evaluated = 0;
 		executingFutures = null;
+		statistics = null;
 	}
 
 	public boolean validate() {
@@ -78,6 +87,17 @@ public class Strategy implements Condition, EventListener {
 		throw new RuntimeException("unable to validate this strategy (missing policy)");
 	}
 
+	/**
+	 * @return The statistics of this strategy's class, or of its policy's class if this strategy is not extended.
+	 */
+	Metrics.StrategyStatistics getStatistics() {
+		if (statistics == null) {
+			final Class<?> type = getClass() == Strategy.class && policy != null ? policy.getClass() : getClass();
+			statistics = Metrics.getStrategy(type.getName());
+		}
+		return statistics;
+	}
+
 	boolean isIdle() {
 		if (executingFutures != null) {
 			for (final Future<?> future : executingFutures) {
@@ -89,6 +109,17 @@ public class Strategy implements Condition, EventListener {
 		return true;
 	}
 
+	/**
+	 * Determines if this strategy is to be evaluated.
+	 *
+	 * @param signalled The triggers that fired since the previous evaluation.
+	 * @param now       The current time in milliseconds.
+	 * @return <tt>true</tt> if this strategy is polled, was never evaluated, one of its triggers fired or it has gone stale; otherwise <tt>false</tt>.
+	 */
+	boolean isDue(final int signalled, final long now) {
+		return triggers == 0 || evaluated == 0 || (triggers & signalled) != 0 || (staleness > 0 && now - evaluated >= staleness);
+	}
+
 	public void setTasks(final Task[] tasks) {
 		this.tasks = tasks;
 	}
@@ -108,4 +139,23 @@ public class Strategy implements Condition, EventListener {
 	public void setSync(final boolean sync) {
 		this.sync = sync;
 	}
+
+	/**
+	 * Sets the occurrences this strategy depends on; after its first validation it is only re-validated when one of them fires.
+	 * A strategy without triggers is validated on every iteration of its daemon.
+	 *
+	 * @param triggers The mask of <code>Trigger</code>s to depend on, or <code>0</code> to be polled.
+	 */
+	public void setTriggers(final int triggers) {
+		this.triggers = triggers;
+	}
+
+	/**
+	 * Sets the maximum time this strategy may go without being validated while none of its triggers fire.
+	 *
+	 * @param milliseconds The maximum staleness, or <code>0</code> to only validate when triggered.
+	 */
+	public void setMaxStaleness(final int milliseconds) {
+		this.staleness = milliseconds;
+	}
 }
@@ -3,13 +3,15 @@ package org.powerbot.concurrent.strategy;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.CancellationException;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Future;
 import java.util.concurrent.RejectedExecutionException;
 
+import org.powerbot.concurrent.Metrics;
 import org.powerbot.concurrent.Task;
 import org.powerbot.concurrent.TaskContainer;
-import org.powerbot.game.api.util.Time;
+import org.powerbot.concurrent.TaskFuture;
 import org.powerbot.util.Configuration;
 
 /**
@@ -23,6 +25,14 @@ public class StrategyDaemon implements StrategyContainer, Task {
 	private final List<Strategy> strategies;
 	public DaemonState state;
 	private int iterationSleep = 200;
+	private final Object signalLock = new Object();
+	private int signalled;
+	private boolean appended;
+	private boolean finished;
+	private volatile int triggers;
+	private volatile long resumeLatency;
+	private volatile long resumeLatencyTotal;
+	private volatile int resumeCount;
 
 	/**
 	 * Initializes this strategy daemon with appropriate objects.
@@ -35,6 +45,10 @@ public class StrategyDaemon implements StrategyContainer, Task {
 		this.owner = owner;
 		strategies = Collections.synchronizedList(new ArrayList<Strategy>());
 		state = DaemonState.DESTROYED;
+		signalled = 0;
+		appended = false;
+		finished = false;
+		triggers = 0;
 	}
 
 	/**
@@ -59,6 +73,7 @@ public class StrategyDaemon implements StrategyContainer, Task {
 	 */
 	public void lock() {
 		state = DaemonState.LOCKED;
+		wake();
 	}
 
 	/**
@@ -69,6 +84,7 @@ public class StrategyDaemon implements StrategyContainer, Task {
 		synchronized (this) {
 			notify();
 		}
+		wake();
 	}
 
 	/**
@@ -76,7 +92,13 @@ public class StrategyDaemon implements StrategyContainer, Task {
 	 */
 	public void append(final Strategy strategy) {
 		if (!strategies.contains(strategy)) {
+			strategy.evaluated = 0;
 			strategies.add(strategy);
+			triggers |= strategy.triggers;
+			synchronized (signalLock) {
+				appended = true;
+				signalLock.notify();
+			}
 		}
 	}
 
@@ -87,12 +109,35 @@ public class StrategyDaemon implements StrategyContainer, Task {
 		strategies.remove(strategy);
 	}
 
+	/**
+	 * Notifies this daemon that the provided triggers fired, waking it to re-validate dependent strategies.
+	 *
+	 * @param triggers The mask of <code>Trigger</code>s that fired.
+	 */
+	public void signal(final int triggers) {
+		if ((this.triggers & triggers) == 0) {
+			return;
+		}
+		synchronized (signalLock) {
+			signalled |= triggers;
+			signalLock.notify();
+		}
+	}
+
+	/**
+	 * @return The mask of <code>Trigger</code>s the strategies of this daemon depend on.
+	 */
+	public int getTriggers() {
+		return triggers;
+	}
+
 	/**
 	 * Handles the dispatching of strategies within the given container.
 	 */
 	public void run() {
-		final List<Future<?>> futures = Collections.synchronizedList(new ArrayList<Future<?>>());
+		final List<Future<?>> futures = new ArrayList<Future<?>>();
 		DaemonState cached_state;
+		int deferred = 0;
 		while (state != DaemonState.DESTROYED) {
 			if (state == DaemonState.LOCKED) {
 				synchronized (this) {
@@ -105,12 +150,30 @@ public class StrategyDaemon implements StrategyContainer, Task {
 				try {
 					final List<Strategy> strategies_clone = new ArrayList<Strategy>();
 					strategies_clone.addAll(strategies);
+					final int signalled = consumeSignals() | deferred;
+					final long now = System.currentTimeMillis();
+					deferred = 0;
+					int triggers = 0;
+					for (final Strategy strategy : strategies_clone) {
+						triggers |= strategy.triggers;
+					}
+					this.triggers = triggers;
 					for (final Strategy strategy : strategies_clone) {
 						if (state != DaemonState.LISTENING) {
 							break;
 						}
-						if (strategy.tasks == null || !strategy.validate() ||
-								(strategy.sync && !strategy.isIdle())) {
+						if (strategy.tasks == null || !strategy.isDue(signalled, now)) {
+							continue;
+						}
+						strategy.evaluated = now;
+						final long start = System.nanoTime();
+						final boolean valid = strategy.validate();
+						strategy.getStatistics().validated(System.nanoTime() - start, valid);
+						if (!valid) {
+							continue;
+						}
+						if (strategy.sync && !strategy.isIdle()) {
+							deferred |= strategy.triggers & signalled;
 							continue;
 						}
 						for (final Task task : strategy.tasks) {
@@ -127,18 +190,19 @@ public class StrategyDaemon implements StrategyContainer, Task {
 						cached_state = state;
 						strategy.executingFutures = futures.toArray(new Future<?>[futures.size()]);
 						if (strategy.lock) {
-							container.submit(createFutureDisposer(futures, this));
-							awaitNotify(futures);
+							awaitCompletion(futures, strategy.getStatistics());
 							if (state == DaemonState.PROCESSING) {
 								state = cached_state;
 							}
+						} else {
+							track(futures);
 						}
 						futures.clear();
 						if (strategy.reset) {
 							break;
 						}
 					}
-					Time.sleep(iterationSleep);
+					await(strategies_clone, deferred != 0);
 				} catch (final Throwable t) {
 					if (Configuration.DEVMODE) {
 						t.printStackTrace();
@@ -154,47 +218,166 @@ public class StrategyDaemon implements StrategyContainer, Task {
 		iterationSleep = milliseconds;
 	}
 
-	private void awaitNotify(final List<Future<?>> futures) {
+	private int consumeSignals() {
+		synchronized (signalLock) {
+			final int signalled = this.signalled;
+			this.signalled = 0;
+			appended = false;
+			finished = false;
+			return signalled;
+		}
+	}
+
+	private void wake() {
+		synchronized (signalLock) {
+			signalLock.notify();
+		}
+	}
+
+	/**
+	 * Waits until the next iteration is due: after the iteration sleep when a strategy is polled,
+	 * when the first strategy goes stale, when a trigger fires or when the tasks of a non-locking strategy complete.
+	 *
+	 * @param strategies The strategies of the finished iteration.
+	 * @param poll       <tt>true</tt> to wait no longer than the iteration sleep.
+	 */
+	private void await(final List<Strategy> strategies, final boolean poll) {
+		long timeout = poll || strategies.isEmpty() ? iterationSleep : -1;
+		final long now = System.currentTimeMillis();
+		for (final Strategy strategy : strategies) {
+			if (strategy.triggers == 0) {
+				timeout = iterationSleep;
+				break;
+			}
+			if (strategy.staleness > 0) {
+				final long remaining = Math.max(strategy.evaluated + strategy.staleness - now, 1);
+				if (timeout == -1 || remaining < timeout) {
+					timeout = remaining;
+				}
+			}
+		}
+		if (timeout == -1 || timeout > 0) {
+			synchronized (signalLock) {
+				if (signalled == 0 && !appended && !finished && state == DaemonState.LISTENING) {
+					try {
+						signalLock.wait(timeout == -1 ? 0 : timeout);
+					} catch (final InterruptedException ignored) {
+					}
+				}
+			}
+		}
+	}
+
+	/**
+	 * Waits for the provided futures to complete; completion callbacks wake this daemon once the last one is done,
+	 * recording the time it took to wake as the resume latency of the strategy.
+	 *
+	 * @param futures    The futures of the tasks being executed.
+	 * @param statistics The statistics of the strategy the tasks belong to.
+	 */
+	private void awaitCompletion(final List<Future<?>> futures, final Metrics.StrategyStatistics statistics) {
+		final Completion completion = new Completion(futures.size(), true);
 		synchronized (this) {
 			state = DaemonState.PROCESSING;
-
-			if (futures.size() > 0) {
+		}
+		for (final Future<?> future : futures) {
+			if (future instanceof TaskFuture) {
+				((TaskFuture<?>) future).addListener(completion);
+			} else {
+				try {
+					future.get();
+				} catch (final InterruptedException ignored) {
+				} catch (final ExecutionException ignored) {
+				} catch (final CancellationException ignored) {
+				}
+				completion.run();
+			}
+		}
+		final long completed;
+		synchronized (this) {
+			while (completion.remaining > 0 && state != DaemonState.DESTROYED) {
 				try {
 					wait();
 				} catch (final InterruptedException ignored) {
 				}
 			}
+			completed = completion.remaining == 0 ? completion.completed : 0;
+		}
+		if (completed != 0) {
+			final long latency = System.nanoTime() - completed;
+			statistics.resumed(latency);
+			resumeLatency = latency;
+			resumeLatencyTotal += latency;
+			resumeCount++;
 		}
 	}
 
 	/**
-	 * Creates a <code>RunnableTask</code> that notifies a thread to awaken when all futures are completed.
+	 * Wakes this daemon once the provided futures complete without waiting upon them,
+	 * so strategies deferred while the tasks execute are re-validated without delay.
 	 *
-	 * @param lockingFutures The <code>List</code> of Futures to wait for.
-	 * @param threadObject   The locking object to notify.
-	 * @return The <code>RunnableTask</code> to be submitted.
+	 * @param futures The futures of the tasks being executed.
+	 */
+	private void track(final List<Future<?>> futures) {
+		for (final Future<?> future : futures) {
+			if (!(future instanceof TaskFuture)) {
+				return;
+			}
+		}
+		if (futures.isEmpty()) {
+			return;
+		}
+		final Completion completion = new Completion(futures.size(), false);
+		for (final Future<?> future : futures) {
+			((TaskFuture<?>) future).addListener(completion);
+		}
+	}
+
+	/**
+	 * @return The time in nanoseconds between the tasks of the last locking strategy completing and this daemon waking.
 	 */
+	public long getResumeLatency() {
+		return resumeLatency;
+	}
 
-	private Task createFutureDisposer(final List<Future<?>> lockingFutures, final Object threadObject) {
-		return new Task() {
-			public void run() {
-				while (lockingFutures.size() > 0) {
-					final Future<?> future = lockingFutures.get(0);
-					try {
-						future.get();
-					} catch (final InterruptedException ignored) {
-					} catch (final ExecutionException ignored) {
-					}
+	/**
+	 * @return The mean time in nanoseconds between the tasks of locking strategies completing and this daemon waking.
+	 */
+	public long getAverageResumeLatency() {
+		final int count = resumeCount;
+		return count > 0 ? resumeLatencyTotal / count : 0;
+	}
 
-					if (future.isDone()) {
-						lockingFutures.remove(0);
-					}
+	/**
+	 * A countdown of executing futures that wakes this daemon when the last completes:
+	 * from waiting upon a locking strategy, or otherwise from waiting for its next evaluation pass.
+	 */
+	private final class Completion implements Runnable {
+		private final boolean lock;
+		private int remaining;
+		private long completed;
+
+		private Completion(final int remaining, final boolean lock) {
+			this.lock = lock;
+			this.remaining = remaining;
+			this.completed = 0;
+		}
+
+		public void run() {
+			synchronized (StrategyDaemon.this) {
+				if (remaining == 0 || --remaining != 0) {
+					return;
 				}
-				synchronized (threadObject) {
-					threadObject.notify();
+				completed = System.nanoTime();
+				if (lock) {
+					StrategyDaemon.this.notifyAll();
+					return;
 				}
 			}
-		};
+			synchronized (signalLock) {
+				finished = true;
+				signalLock.notify();
+			}
+		}
 	}
-
 }
@@ -0,0 +1,14 @@
+package org.powerbot.concurrent.strategy;
+
+/**
+ * The occurrences a <code>Strategy</code> is able to depend on for re-validation.
+ *
+ * @author Timer
+ */
+public interface Trigger {
+	int TICK = 0x1;
+	int SETTING = 0x2;
+	int MESSAGE = 0x4;
+	int INVENTORY = 0x8;
+	int ANIMATION = 0x10;
+}
@@ -1,5 +1,6 @@
 package org.powerbot.event;
 
+import java.awt.AWTEvent;
 import java.awt.event.FocusEvent;
 import java.awt.event.FocusListener;
 import java.awt.event.KeyEvent;
@@ -9,6 +10,8 @@ import java.awt.event.MouseListener;
 import java.awt.event.MouseMotionListener;
 import java.awt.event.MouseWheelEvent;
 import java.awt.event.MouseWheelListener;
+import java.io.File;
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.EventListener;
 import java.util.EventObject;
@@ -19,7 +22,9 @@ import java.util.logging.Logger;
 import org.powerbot.concurrent.Task;
 import org.powerbot.game.bot.event.listener.MessageListener;
 import org.powerbot.game.bot.event.listener.PaintListener;
+import org.powerbot.game.bot.event.listener.SettingListener;
 import org.powerbot.game.bot.event.listener.TextPaintListener;
+import org.powerbot.util.Configuration;
 
 /**
  * An event manager responsible for dispatching events to listeners associated with this dispatcher.
@@ -29,10 +34,14 @@ import org.powerbot.game.bot.event.listener.TextPaintListener;
 public class EventDispatcher implements EventManager, Task {
 	private static final Logger log = Logger.getLogger(EventDispatcher.class.getName());
 	private volatile boolean active;
-	private final List<EventObject> queue = new ArrayList<EventObject>();
+	private final EventQueue queue;
 	private final List<EventListener> listeners = new ArrayList<EventListener>();
-	private final List<Long> listenerMasks = new ArrayList<Long>();
+	private volatile Table table = new Table(listeners);
 	private final Object treeLock = new Object();
+	private volatile EventFanout fanout;
+	private volatile EventRecorder recorder;
+	private volatile int coalescing;
+	private volatile long coalesced;
 
 	public static final int MOUSE_EVENT = 0x1;
 	public static final int MOUSE_MOTION_EVENT = 0x2;
@@ -41,23 +50,108 @@ public class EventDispatcher implements EventManager, Task {
 	public static final int KEY_EVENT = 0x10;
 
 	public static final int MESSAGE_EVENT = 0x400;
+	public static final int SETTING_EVENT = 0x800;
 	public static final int PAINT_EVENT = 0x1000;
 	public static final int TEXT_PAINT_EVENT = 0x2000;
 
+	/**
+	 * The maximum number of events fired per wakeup of the dispatching thread.
+	 */
+	private static final int BATCH_SIZE = 64;
+
 	public EventDispatcher() {
+		this(Configuration.EVENTQUEUE, EventQueue.Overflow.valueOf(Configuration.EVENTOVERFLOW));
+	}
+
+	/**
+	 * @param capacity The maximum number of events awaiting dispatch.
+	 * @param overflow The policy to apply when an event is dispatched to a full queue.
+	 */
+	public EventDispatcher(final int capacity, final EventQueue.Overflow overflow) {
 		active = false;
+		queue = new EventQueue(capacity, overflow);
+		coalescing = Configuration.EVENTCOALESCE;
+		coalesced = 0;
 	}
 
 	/**
 	 * {@inheritDoc}
 	 */
 	public void dispatch(final EventObject event) {
-		synchronized (queue) {
-			queue.add(event);
-			queue.notify();
+		final EventRecorder recorder = this.recorder;
+		if (recorder != null) {
+			recorder.record(event);
+		}
+		queue.offer(event);
+	}
+
+	/**
+	 * Begins recording every dispatched and fired event to a log, replacing any recording in progress.
+	 *
+	 * @param file The file to record to.
+	 * @throws IOException If the log cannot be created.
+	 */
+	public void startRecording(final File file) throws IOException {
+		final EventRecorder previous = recorder;
+		recorder = new EventRecorder(file);
+		if (previous != null) {
+			previous.close();
+		}
+	}
+
+	/**
+	 * Stops recording events and closes the log.
+	 */
+	public void stopRecording() {
+		final EventRecorder recorder = this.recorder;
+		this.recorder = null;
+		if (recorder != null) {
+			recorder.close();
 		}
 	}
 
+	/**
+	 * @return The recorder events are currently teed into, or <code>null</code> if not recording.
+	 */
+	public EventRecorder getRecorder() {
+		return recorder;
+	}
+
+	/**
+	 * @return The number of events awaiting dispatch.
+	 */
+	public int getQueueDepth() {
+		return queue.size();
+	}
+
+	/**
+	 * Sets the types of input events collapsed when the dispatching thread falls behind:
+	 * consecutive queued events of one of these types, with the same source and id, are merged into the latest.
+	 *
+	 * @param mask The mask of event types to coalesce (i.e. <code>MOUSE_MOTION_EVENT</code>), or <code>0</code> to deliver every event.
+	 */
+	public void setCoalescing(final int mask) {
+		coalescing = mask;
+	}
+
+	public int getCoalescing() {
+		return coalescing;
+	}
+
+	/**
+	 * @return The number of queued events merged into a later event rather than fired.
+	 */
+	public long getCoalescedCount() {
+		return coalesced;
+	}
+
+	/**
+	 * @return The queue of events awaiting dispatch, for its depth and overflow statistics.
+	 */
+	public EventQueue getQueue() {
+		return queue;
+	}
+
 	/**
 	 * {@inheritDoc}
 	 */
@@ -66,79 +160,145 @@ public class EventDispatcher implements EventManager, Task {
 	}
 
 	/**
-	 * Fires this event by matching masks of interfaces and the event type.
+	 * Fires this event to the listeners registered for its type.
+	 * Listeners are read from copy-on-write tables, so firing neither locks nor allocates.
 	 *
 	 * @param eventObject The event to fire.
 	 * @param type        The type of event to check for within the mask.
 	 */
 	public void fire(final EventObject eventObject, final int type) {
-		synchronized (treeLock) {
-			if (!active) {
-				return;
+		final EventRecorder recorder = this.recorder;
+		if (recorder != null && active) {
+			recorder.record(eventObject);
+		}
+		deliver(eventObject, type);
+	}
+
+	private void deliver(final EventObject eventObject, final int type) {
+		if (!active) {
+			return;
+		}
+		final Table table = this.table;
+		if (Integer.bitCount(type) == 1) {
+			final EventListener[] listeners = table.listeners[Integer.numberOfTrailingZeros(type)];
+			for (final EventListener listener : listeners) {
+				fire(eventObject, listener);
 			}
-			final int size = listeners.size();
-			for (int index = 0; index < size; index++) {
-				final long listenerType = listenerMasks.get(index);
-				if ((listenerType & type) == 0) {
-					continue;
-				}
-				final EventListener listener = listeners.get(index);
-				if (eventObject instanceof MouseEvent) {
-					final MouseEvent me = (MouseEvent) eventObject;
-					switch (me.getID()) {
-					case MouseEvent.MOUSE_PRESSED:
-						((MouseListener) listener).mousePressed(me);
-						break;
-					case MouseEvent.MOUSE_RELEASED:
-						((MouseListener) listener).mouseReleased(me);
-						break;
-					case MouseEvent.MOUSE_CLICKED:
-						((MouseListener) listener).mouseClicked(me);
-						break;
-					case MouseEvent.MOUSE_ENTERED:
-						((MouseListener) listener).mouseEntered(me);
-						break;
-					case MouseEvent.MOUSE_EXITED:
-						((MouseListener) listener).mouseExited(me);
-						break;
-					case MouseEvent.MOUSE_MOVED:
-						((MouseMotionListener) listener).mouseMoved(me);
-						break;
-					case MouseEvent.MOUSE_DRAGGED:
-						((MouseMotionListener) listener).mouseDragged(me);
-						break;
-					case MouseEvent.MOUSE_WHEEL:
-						((MouseWheelListener) listener).mouseWheelMoved((MouseWheelEvent) me);
-						break;
-					}
-					break;
-				} else if (eventObject instanceof FocusEvent) {
-					final FocusEvent focusEvent = (FocusEvent) listener;
-					switch (focusEvent.getID()) {
-					case FocusEvent.FOCUS_GAINED:
-						((FocusListener) listener).focusGained(focusEvent);
-						break;
-					case FocusEvent.FOCUS_LOST:
-						((FocusListener) listener).focusLost(focusEvent);
-						break;
-					}
-				} else if (eventObject instanceof KeyEvent) {
-					final KeyEvent ke = (KeyEvent) eventObject;
-					switch (ke.getID()) {
-					case KeyEvent.KEY_TYPED:
-						((KeyListener) listener).keyTyped(ke);
-						break;
-					case KeyEvent.KEY_PRESSED:
-						((KeyListener) listener).keyPressed(ke);
-						break;
-					case KeyEvent.KEY_RELEASED:
-						((KeyListener) listener).keyReleased(ke);
-						break;
-					}
-				} else if (eventObject instanceof GeneralEvent) {
-					final GeneralEvent gameEvent = (GeneralEvent) eventObject;
-					gameEvent.dispatch(listener);
-				}
+			return;
+		}
+		final EventListener[] listeners = table.all;
+		final long[] masks = table.masks;
+		for (int index = 0; index < listeners.length; index++) {
+			if ((masks[index] & type) != 0) {
+				fire(eventObject, listeners[index]);
+			}
+		}
+	}
+
+	/**
+	 * Determines if any listener is registered for the given type, allowing producers to skip building events nobody receives.
+	 *
+	 * @param type The type of event.
+	 * @return <tt>true</tt> if this dispatcher is active and a listener accepts the type; otherwise <tt>false</tt>.
+	 */
+	public boolean isListening(final int type) {
+		if (!active) {
+			return false;
+		}
+		final Table table = this.table;
+		if (Integer.bitCount(type) == 1) {
+			return table.listeners[Integer.numberOfTrailingZeros(type)].length > 0;
+		}
+		for (final long mask : table.masks) {
+			if ((mask & type) != 0) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * @param type The type of event.
+	 * @return The listeners registered for the type, in the order they were accepted.
+	 */
+	EventListener[] getListeners(final int type) {
+		final Table table = this.table;
+		if (Integer.bitCount(type) == 1) {
+			return table.listeners[Integer.numberOfTrailingZeros(type)];
+		}
+		final List<EventListener> listeners = new ArrayList<EventListener>();
+		for (int index = 0; index < table.all.length; index++) {
+			if ((table.masks[index] & type) != 0) {
+				listeners.add(table.all[index]);
+			}
+		}
+		return listeners.toArray(new EventListener[listeners.size()]);
+	}
+
+	/**
+	 * Determines if a listener was flagged for exceeding its time budget while events were fanned out.
+	 *
+	 * @param eventListener The listener to check.
+	 * @return <tt>true</tt> if the listener is slow; otherwise <tt>false</tt>.
+	 */
+	public boolean isSlow(final EventListener eventListener) {
+		final EventFanout fanout = this.fanout;
+		return fanout != null && fanout.isSlow(eventListener);
+	}
+
+	void fire(final EventObject eventObject, final EventListener listener) {
+		if (eventObject instanceof GeneralEvent) {
+			((GeneralEvent) eventObject).dispatch(listener);
+		} else if (eventObject instanceof MouseEvent) {
+			final MouseEvent me = (MouseEvent) eventObject;
+			switch (me.getID()) {
+			case MouseEvent.MOUSE_PRESSED:
+				((MouseListener) listener).mousePressed(me);
+				break;
+			case MouseEvent.MOUSE_RELEASED:
+				((MouseListener) listener).mouseReleased(me);
+				break;
+			case MouseEvent.MOUSE_CLICKED:
+				((MouseListener) listener).mouseClicked(me);
+				break;
+			case MouseEvent.MOUSE_ENTERED:
+				((MouseListener) listener).mouseEntered(me);
+				break;
+			case MouseEvent.MOUSE_EXITED:
+				((MouseListener) listener).mouseExited(me);
+				break;
+			case MouseEvent.MOUSE_MOVED:
+				((MouseMotionListener) listener).mouseMoved(me);
+				break;
+			case MouseEvent.MOUSE_DRAGGED:
+				((MouseMotionListener) listener).mouseDragged(me);
+				break;
+			case MouseEvent.MOUSE_WHEEL:
+				((MouseWheelListener) listener).mouseWheelMoved((MouseWheelEvent) me);
+				break;
+			}
+		} else if (eventObject instanceof FocusEvent) {
+			final FocusEvent focusEvent = (FocusEvent) eventObject;
+			switch (focusEvent.getID()) {
+			case FocusEvent.FOCUS_GAINED:
+				((FocusListener) listener).focusGained(focusEvent);
+				break;
+			case FocusEvent.FOCUS_LOST:
+				((FocusListener) listener).focusLost(focusEvent);
+				break;
+			}
+		} else if (eventObject instanceof KeyEvent) {
+			final KeyEvent ke = (KeyEvent) eventObject;
+			switch (ke.getID()) {
+			case KeyEvent.KEY_TYPED:
+				((KeyListener) listener).keyTyped(ke);
+				break;
+			case KeyEvent.KEY_PRESSED:
+				((KeyListener) listener).keyPressed(ke);
+				break;
+			case KeyEvent.KEY_RELEASED:
+				((KeyListener) listener).keyReleased(ke);
+				break;
 			}
 		}
 	}
@@ -150,7 +310,7 @@ public class EventDispatcher implements EventManager, Task {
 		synchronized (treeLock) {
 			if (!listeners.contains(eventListener)) {
 				listeners.add(eventListener);
-				listenerMasks.add(getType(eventListener));
+				table = new Table(listeners);
 			}
 		}
 	}
@@ -160,12 +320,14 @@ public class EventDispatcher implements EventManager, Task {
 	 */
 	public void remove(final EventListener eventListener) {
 		synchronized (treeLock) {
-			final int id = listeners.indexOf(eventListener);
-			if (id != -1) {
-				listeners.remove(id);
-				listenerMasks.remove(id);
+			if (listeners.remove(eventListener)) {
+				table = new Table(listeners);
 			}
 		}
+		final EventFanout fanout = this.fanout;
+		if (fanout != null) {
+			fanout.removed(eventListener);
+		}
 	}
 
 	/**
@@ -173,9 +335,7 @@ public class EventDispatcher implements EventManager, Task {
 	 */
 	public void setActive(final boolean active) {
 		this.active = active;
-		synchronized (queue) {
-			queue.notify();
-		}
+		queue.wake();
 	}
 
 	/**
@@ -205,6 +365,9 @@ public class EventDispatcher implements EventManager, Task {
 		if (el instanceof MessageListener) {
 			mask |= EventDispatcher.MESSAGE_EVENT;
 		}
+		if (el instanceof SettingListener) {
+			mask |= EventDispatcher.SETTING_EVENT;
+		}
 		if (el instanceof PaintListener) {
 			mask |= EventDispatcher.PAINT_EVENT;
 		}
@@ -222,7 +385,9 @@ public class EventDispatcher implements EventManager, Task {
 	 * @return The type of the event provided associative with listener masks.
 	 */
 	public static int getType(final EventObject e) {
-		if (e instanceof MouseEvent) {
+		if (e instanceof GeneralEvent) {
+			return ((GeneralEvent) e).type;
+		} else if (e instanceof MouseEvent) {
 			final MouseEvent me = (MouseEvent) e;
 			switch (me.getID()) {
 			case MouseEvent.MOUSE_PRESSED:
@@ -254,8 +419,6 @@ public class EventDispatcher implements EventManager, Task {
 			case KeyEvent.KEY_RELEASED:
 				return EventDispatcher.KEY_EVENT;
 			}
-		} else if (e instanceof GeneralEvent) {
-			return ((GeneralEvent) e).type;
 		}
 
 		throw new RuntimeException("bad event");
@@ -263,32 +426,128 @@ public class EventDispatcher implements EventManager, Task {
 
 	/**
 	 * Handles the firing of events within the dispatch queue.
+	 * When fan-out is configured, each listener receives queued events on a serial executor of its own.
 	 */
 	public void run() {
 		active = true;
+		if (Configuration.EVENTLOG != null && recorder == null) {
+			try {
+				startRecording(new File(Configuration.EVENTLOG, "events-" + hashCode() + "-" + System.currentTimeMillis() + ".bin"));
+			} catch (final IOException e) {
+				log.log(Level.SEVERE, "Event recorder: ", e);
+			}
+		}
+		if (Configuration.EVENTFANOUT > 0) {
+			fanout = new EventFanout(this, Configuration.EVENTFANOUT, Configuration.EVENTBUDGET, Configuration.EVENTEVICT);
+		}
+		final EventObject[] batch = new EventObject[BATCH_SIZE];
 		while (active) {
-			EventObject event = null;
-			synchronized (queue) {
-				while (active && queue.isEmpty()) {
-					try {
-						queue.wait();
-					} catch (final InterruptedException e) {
-						log.log(Level.SEVERE, "Event dispatcher: ", e);
-					}
-				}
-
-				if (!queue.isEmpty()) {
-					event = queue.remove(0);
-				}
+			int count = 0;
+			try {
+				count = queue.drain(batch);
+			} catch (final InterruptedException e) {
+				log.log(Level.SEVERE, "Event dispatcher: ", e);
+			}
+			if (count > 1 && coalescing != 0) {
+				count = coalesce(batch, count);
 			}
 
-			if (event != null) {
+			for (int i = 0; i < count; i++) {
+				final EventObject event = batch[i];
+				batch[i] = null;
+				if (!active) {
+					continue;
+				}
 				try {
-					fire(event);
+					if (fanout != null) {
+						fanout.fire(event, getType(event));
+					} else {
+						deliver(event, getType(event));
+					}
 				} catch (final Throwable t) {
 					log.log(Level.SEVERE, "Event dispatcher: ", t);
 				}
 			}
 		}
+		if (fanout != null) {
+			fanout.shutdown();
+			fanout = null;
+		}
+		stopRecording();
+	}
+
+	/**
+	 * Collapses runs of coalescable events within a drained batch into the latest event of each run, preserving order.
+	 *
+	 * @param batch The drained events.
+	 * @param count The number of drained events.
+	 * @return The number of events remaining in the batch.
+	 */
+	private int coalesce(final EventObject[] batch, final int count) {
+		final int mask = coalescing;
+		int kept = 0;
+		for (int i = 0; i < count; i++) {
+			final EventObject event = batch[i];
+			batch[i] = null;
+			if (i + 1 < count && isCoalescable(event, batch[i + 1], mask)) {
+				continue;
+			}
+			batch[kept++] = event;
+		}
+		if (kept != count) {
+			coalesced += count - kept;
+		}
+		return kept;
+	}
+
+	private static boolean isCoalescable(final EventObject event, final EventObject next, final int mask) {
+		if (!(event instanceof AWTEvent) || next.getClass() != event.getClass() || next.getSource() != event.getSource() ||
+				((AWTEvent) next).getID() != ((AWTEvent) event).getID()) {
+			return false;
+		}
+		try {
+			return (getType(event) & mask) != 0;
+		} catch (final RuntimeException ignored) {
+			return false;
+		}
+	}
+
+	/**
+	 * An immutable snapshot of the registered listeners, indexed by each type bit of their masks.
+	 */
+	private static final class Table {
+		private static final EventListener[] EMPTY = new EventListener[0];
+		private final EventListener[][] listeners;
+		private final EventListener[] all;
+		private final long[] masks;
+
+		private Table(final List<EventListener> registered) {
+			all = registered.toArray(new EventListener[registered.size()]);
+			masks = new long[all.length];
+			for (int index = 0; index < all.length; index++) {
+				masks[index] = getType(all[index]);
+			}
+			listeners = new EventListener[Integer.SIZE][];
+			for (int bit = 0; bit < Integer.SIZE; bit++) {
+				int count = 0;
+				for (final long mask : masks) {
+					if ((mask & (1L << bit)) != 0) {
+						count++;
+					}
+				}
+				if (count == 0) {
+					listeners[bit] = EMPTY;
+					continue;
+				}
+				final EventListener[] typed = new EventListener[count];
+				count = 0;
+				for (int index = 0; index < all.length; index++) {
+					if ((masks[index] & (1L << bit)) != 0) {
+						typed[count++] = all[index];
+					}
+				}
+				listeners[bit] = typed;
+			}
+		}
 	}
 }
@@ -0,0 +1,240 @@
+package org.powerbot.event;
+
+import java.util.EventListener;
+import java.util.EventObject;
+import java.util.IdentityHashMap;
+import java.util.LinkedList;
+import java.util.Map;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import org.powerbot.concurrent.PooledTaskExecutor;
+import org.powerbot.concurrent.Task;
+import org.powerbot.concurrent.ThreadPool;
+
+/**
+ * Delivers queued events to each listener on a serial executor of its own, so listeners proceed in parallel
+ * while every listener still receives events in the order they were dispatched.
+ * Listeners exceeding the time budget are flagged, and evicted from their dispatcher if eviction is enabled.
+ *
+ * @author Timer
+ */
+class EventFanout {
+	private static final Logger log = Logger.getLogger(EventFanout.class.getName());
+	/**
+	 * The number of budget overruns after which a listener is evicted.
+	 */
+	private static final int STRIKES = 3;
+	/**
+	 * The number of pending events after which a listener still executing beyond its budget is evicted.
+	 */
+	private static final int BACKLOG = 256;
+
+	private final EventDispatcher dispatcher;
+	private final PooledTaskExecutor executor;
+	private final long budget;
+	private final boolean evict;
+	private final Map<EventListener, Delivery> deliveries;
+
+	/**
+	 * @param dispatcher The dispatcher whose listeners are delivered to.
+	 * @param threads    The maximum number of listeners executing at once.
+	 * @param budget     The number of milliseconds a listener may spend on an event.
+	 * @param evict      <tt>true</tt> to remove listeners that repeatedly exceed the budget; <tt>false</tt> to only flag them.
+	 */
+	EventFanout(final EventDispatcher dispatcher, final int threads, final long budget, final boolean evict) {
+		this.dispatcher = dispatcher;
+		this.executor = new PooledTaskExecutor(new ThreadPool(ThreadPool.getThreadGroup()), 0, threads, 5000, Integer.MAX_VALUE,
+				PooledTaskExecutor.Rejection.CALLER_RUNS);
+		this.budget = budget * 1000000L;
+		this.evict = evict;
+		this.deliveries = new IdentityHashMap<EventListener, Delivery>();
+	}
+
+	/**
+	 * Queues the event for every listener of the given type.
+	 *
+	 * @param event The event to deliver.
+	 * @param type  The type of the event.
+	 */
+	void fire(final EventObject event, final int type) {
+		for (final EventListener listener : dispatcher.getListeners(type)) {
+			Delivery delivery;
+			synchronized (deliveries) {
+				delivery = deliveries.get(listener);
+				if (delivery == null) {
+					delivery = new Delivery(listener);
+					deliveries.put(listener, delivery);
+				} else {
+					synchronized (delivery) {
+						delivery.retired = false;
+					}
+				}
+			}
+			delivery.offer(event);
+		}
+	}
+
+	/**
+	 * Discards the queued events and executor of a listener no longer registered.
+	 * An executor still delivering an event is retained until it finishes, so a listener added back meanwhile
+	 * continues on the same executor rather than receiving events from two at once.
+	 *
+	 * @param listener The removed listener.
+	 */
+	void removed(final EventListener listener) {
+		synchronized (deliveries) {
+			final Delivery delivery = deliveries.get(listener);
+			if (delivery != null) {
+				synchronized (delivery) {
+					delivery.pending.clear();
+					if (delivery.scheduled) {
+						delivery.retired = true;
+					} else {
+						deliveries.remove(listener);
+					}
+				}
+			}
+		}
+	}
+
+	/**
+	 * @param listener The listener to check.
+	 * @return <tt>true</tt> if the listener exceeded its time budget while registered; otherwise <tt>false</tt>.
+	 */
+	boolean isSlow(final EventListener listener) {
+		synchronized (deliveries) {
+			final Delivery delivery = deliveries.get(listener);
+			return delivery != null && delivery.slow;
+		}
+	}
+
+	/**
+	 * Stops delivering events; events already executing are allowed to finish.
+	 */
+	void shutdown() {
+		executor.shutdown();
+		synchronized (deliveries) {
+			for (final Delivery delivery : deliveries.values()) {
+				delivery.clear();
+			}
+			deliveries.clear();
+		}
+	}
+
+	private void overrun(final Delivery delivery, final long elapsed) {
+		if (!delivery.slow) {
+			delivery.slow = true;
+			log.log(Level.WARNING, "Slow listener " + delivery.listener.getClass().getName() + " took " + elapsed / 1000000L + "ms", "Events");
+		}
+		if (evict && delivery.overruns >= STRIKES) {
+			evict(delivery);
+		}
+	}
+
+	private void evict(final Delivery delivery) {
+		log.log(Level.SEVERE, "Evicted slow listener " + delivery.listener.getClass().getName(), "Events");
+		dispatcher.remove(delivery.listener);
+	}
+
+	/**
+	 * The serial executor of a single listener.
+	 */
+	private final class Delivery implements Task {
+		private final EventListener listener;
+		private final LinkedList<EventObject> pending;
+		private boolean scheduled;
+		private boolean retired;
+		private volatile boolean slow;
+		private volatile long started;
+		private int overruns;
+
+		private Delivery(final EventListener listener) {
+			this.listener = listener;
+			this.pending = new LinkedList<EventObject>();
+			this.scheduled = false;
+			this.retired = false;
+			this.slow = false;
+			this.started = 0;
+			this.overruns = 0;
+		}
+
+		private void offer(final EventObject event) {
+			final int backlog;
+			final boolean running;
+			synchronized (this) {
+				pending.add(event);
+				backlog = pending.size();
+				running = scheduled;
+				scheduled = true;
+			}
+			if (running) {
+				final long started = this.started;
+				if (evict && backlog > BACKLOG && started != 0 && System.nanoTime() - started > budget) {
+					evict(this);
+				}
+				return;
+			}
+			try {
+				executor.submit(this);
+			} catch (final RejectedExecutionException ignored) {
+				clear();
+			}
+		}
+
+		private synchronized void clear() {
+			pending.clear();
+		}
+
+		/**
+		 * Releases this executor once idle, unless its listener was added back meanwhile.
+		 */
+		private void retire() {
+			synchronized (deliveries) {
+				synchronized (this) {
+					if (retired && !scheduled && deliveries.get(listener) == this) {
+						deliveries.remove(listener);
+					}
+				}
+			}
+		}
+
+		public void run() {
+			while (true) {
+				final EventObject event;
+				final boolean retiring;
+				synchronized (this) {
+					if (pending.isEmpty()) {
+						scheduled = false;
+						retiring = retired;
+						event = null;
+					} else {
+						retiring = false;
+						event = pending.removeFirst();
+					}
+				}
+				if (event == null) {
+					if (retiring) {
+						retire();
+					}
+					return;
+				}
+				final long start = System.nanoTime();
+				started = start;
+				try {
+					dispatcher.fire(event, listener);
+				} catch (final Throwable t) {
+					log.log(Level.SEVERE, "Event dispatcher: ", t);
+				} finally {
+					started = 0;
+				}
+				final long elapsed = System.nanoTime() - start;
+				if (elapsed > budget) {
+					++overruns;
+					overrun(this, elapsed);
+				}
+			}
+		}
+	}
+}
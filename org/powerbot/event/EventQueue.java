@@ -0,0 +1,290 @@
+package org.powerbot.event;
+
+import java.awt.event.MouseEvent;
+import java.util.EventObject;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * A bounded ring buffer of events offered by many producers and drained by a single dispatching thread.
+ * Producers and the consumer claim positions by compare-and-set, so neither side holds a monitor unless it must wait.
+ *
+ * @author Timer
+ */
+public class EventQueue {
+	/**
+	 * The policies available when an event is offered to a full queue.
+	 */
+	public static enum Overflow {
+		/**
+		 * Discards the oldest queued event to make room.
+		 */
+		DROP_OLDEST,
+		/**
+		 * Waits for the consumer to make room.
+		 */
+		BLOCK,
+		/**
+		 * Replaces the newest queued mouse motion event with an incoming one of the same kind; otherwise waits for room.
+		 */
+		COALESCE
+	}
+
+	private final AtomicReferenceArray<EventObject> events;
+	private final AtomicLongArray sequences;
+	private final int mask;
+	private final Overflow overflow;
+
+	private final AtomicLong head;
+	private final AtomicLong tail;
+	private final Object consumerLock;
+	private final Object producerLock;
+	private volatile boolean sleeping;
+	private boolean woken;
+	private final AtomicInteger blocked;
+
+	private final AtomicLong dropped;
+	private final AtomicLong coalesced;
+	private volatile int peak;
+
+	/**
+	 * @param capacity The maximum number of queued events; rounded up to a power of two.
+	 * @param overflow The policy to apply when an event is offered to a full queue.
+	 */
+	public EventQueue(final int capacity, final Overflow overflow) {
+		if (capacity <= 0) {
+			throw new IllegalArgumentException();
+		}
+		if (overflow == null) {
+			throw new NullPointerException();
+		}
+		int size = 1;
+		while (size < capacity) {
+			size <<= 1;
+		}
+		this.events = new AtomicReferenceArray<EventObject>(size);
+		this.sequences = new AtomicLongArray(size);
+		for (int i = 0; i < size; i++) {
+			sequences.set(i, i);
+		}
+		this.mask = size - 1;
+		this.overflow = overflow;
+		this.head = new AtomicLong();
+		this.tail = new AtomicLong();
+		this.consumerLock = new Object();
+		this.producerLock = new Object();
+		this.sleeping = false;
+		this.woken = false;
+		this.blocked = new AtomicInteger();
+		this.dropped = new AtomicLong();
+		this.coalesced = new AtomicLong();
+		this.peak = 0;
+	}
+
+	/**
+	 * Offers an event to this queue, applying the overflow policy when it is full.
+	 *
+	 * @param event The event to queue.
+	 */
+	public void offer(final EventObject event) {
+		if (event == null) {
+			throw new NullPointerException();
+		}
+		while (!enqueue(event)) {
+			if (overflow == Overflow.DROP_OLDEST) {
+				if (dequeue() != null) {
+					dropped.incrementAndGet();
+				}
+				continue;
+			}
+			if (overflow == Overflow.COALESCE && coalesce(event)) {
+				coalesced.incrementAndGet();
+				return;
+			}
+			if (!await(event)) {
+				dropped.incrementAndGet();
+				return;
+			}
+			break;
+		}
+		final int depth = size();
+		if (depth > peak) {
+			peak = depth;
+		}
+		if (sleeping) {
+			synchronized (consumerLock) {
+				consumerLock.notify();
+			}
+		}
+	}
+
+	/**
+	 * Removes up to the given number of events, waiting while the queue is empty.
+	 *
+	 * @param batch The array to drain events into.
+	 * @return The number of events drained, or <code>0</code> if woken without events.
+	 * @throws InterruptedException If the consumer is interrupted while waiting.
+	 */
+	public int drain(final EventObject[] batch) throws InterruptedException {
+		int count = poll(batch);
+		if (count == 0) {
+			synchronized (consumerLock) {
+				sleeping = true;
+				try {
+					while (!woken && (count = poll(batch)) == 0) {
+						consumerLock.wait();
+					}
+				} finally {
+					sleeping = false;
+					woken = false;
+				}
+			}
+		}
+		return count;
+	}
+
+	/**
+	 * Wakes the consumer if it is waiting for events.
+	 */
+	public void wake() {
+		synchronized (consumerLock) {
+			woken = true;
+			consumerLock.notifyAll();
+		}
+	}
+
+	/**
+	 * @return The number of events currently queued.
+	 */
+	public int size() {
+		final long size = tail.get() - head.get();
+		return size < 0 ? 0 : (int) Math.min(size, mask + 1);
+	}
+
+	/**
+	 * @return The maximum number of events this queue holds.
+	 */
+	public int getCapacity() {
+		return mask + 1;
+	}
+
+	/**
+	 * @return The largest number of events queued at once.
+	 */
+	public int getPeakSize() {
+		return peak;
+	}
+
+	/**
+	 * @return The number of events discarded due to overflow.
+	 */
+	public long getDroppedCount() {
+		return dropped.get();
+	}
+
+	/**
+	 * @return The number of events merged into a queued event due to overflow.
+	 */
+	public long getCoalescedCount() {
+		return coalesced.get();
+	}
+
+	public Overflow getOverflow() {
+		return overflow;
+	}
+
+	private int poll(final EventObject[] batch) {
+		int count = 0;
+		EventObject event;
+		while (count < batch.length && (event = dequeue()) != null) {
+			batch[count++] = event;
+		}
+		if (count > 0 && blocked.get() > 0) {
+			synchronized (producerLock) {
+				producerLock.notifyAll();
+			}
+		}
+		return count;
+	}
+
+	private boolean enqueue(final EventObject event) {
+		while (true) {
+			final long position = tail.get();
+			final int index = (int) (position & mask);
+			final long difference = sequences.get(index) - position;
+			if (difference == 0) {
+				if (tail.compareAndSet(position, position + 1)) {
+					events.set(index, event);
+					sequences.set(index, position + 1);
+					return true;
+				}
+			} else if (difference < 0) {
+				return false;
+			}
+		}
+	}
+
+	private EventObject dequeue() {
+		while (true) {
+			final long position = head.get();
+			final int index = (int) (position & mask);
+			final long difference = sequences.get(index) - (position + 1);
+			if (difference == 0) {
+				if (head.compareAndSet(position, position + 1)) {
+					final EventObject event = events.getAndSet(index, null);
+					sequences.set(index, position + mask + 1);
+					return event;
+				}
+			} else if (difference < 0) {
+				return null;
+			}
+		}
+	}
+
+	/**
+	 * Replaces the newest queued event with the provided one if both are mouse motion events of the same kind.
+	 *
+	 * @param event The incoming event.
+	 * @return <tt>true</tt> if the newest queued event was replaced; otherwise <tt>false</tt>.
+	 */
+	private boolean coalesce(final EventObject event) {
+		if (!isMotion(event)) {
+			return false;
+		}
+		final long position = tail.get() - 1;
+		final int index = (int) (position & mask);
+		if (sequences.get(index) != position + 1) {
+			return false;
+		}
+		final EventObject newest = events.get(index);
+		return newest != null && isMotion(newest) &&
+				((MouseEvent) newest).getID() == ((MouseEvent) event).getID() && events.compareAndSet(index, newest, event);
+	}
+
+	private boolean await(final EventObject event) {
+		blocked.incrementAndGet();
+		try {
+			synchronized (producerLock) {
+				while (!enqueue(event)) {
+					producerLock.wait();
+				}
+			}
+			return true;
+		} catch (final InterruptedException ignored) {
+			Thread.currentThread().interrupt();
+			return false;
+		} finally {
+			blocked.decrementAndGet();
+		}
+	}
+
+	private static boolean isMotion(final EventObject event) {
+		if (event instanceof MouseEvent) {
+			final int id = ((MouseEvent) event).getID();
+			return id == MouseEvent.MOUSE_MOVED || id == MouseEvent.MOUSE_DRAGGED;
+		}
+		return false;
+	}
+}
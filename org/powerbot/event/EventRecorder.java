@@ -0,0 +1,188 @@
+package org.powerbot.event;
+
+import java.awt.event.FocusEvent;
+import java.awt.event.KeyEvent;
+import java.awt.event.MouseEvent;
+import java.awt.event.MouseWheelEvent;
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.EventObject;
+
+import org.powerbot.game.bot.event.MessageEvent;
+
+/**
+ * Appends timestamped events to a memory-mapped binary log that <code>EventReplay</code> can feed back into a manager.
+ * Each record holds the nanoseconds elapsed since recording began, a kind and the fields needed to reconstruct the event;
+ * paint events are recorded as markers without their graphics.
+ * The length of the log is written to its header when closed, as the mapped file cannot always be truncated.
+ *
+ * @author Timer
+ */
+public class EventRecorder {
+	static final int MAGIC = 0x52534556;
+	static final int VERSION = 2;
+	/**
+	 * The number of bytes preceding the first record: the magic, the version and the length of the log.
+	 */
+	static final int HEADER = 16;
+
+	static final byte MOUSE = 1;
+	static final byte MOUSE_WHEEL = 2;
+	static final byte KEY = 3;
+	static final byte FOCUS = 4;
+	static final byte MESSAGE = 5;
+	static final byte MARKER = 6;
+
+	/**
+	 * The number of bytes mapped at a time.
+	 */
+	private static final int REGION = 1 << 20;
+
+	private final RandomAccessFile file;
+	private final FileChannel channel;
+	private final long start;
+	private MappedByteBuffer buffer;
+	private long base;
+	private long records;
+	private boolean closed;
+
+	/**
+	 * Creates the log, replacing any existing file.
+	 *
+	 * @param path The file to record to.
+	 * @throws IOException If the file cannot be created or mapped.
+	 */
+	public EventRecorder(final File path) throws IOException {
+		this.file = new RandomAccessFile(path, "rw");
+		this.file.setLength(0);
+		this.channel = file.getChannel();
+		this.start = System.nanoTime();
+		this.base = 0;
+		this.records = 0;
+		this.closed = false;
+		this.buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, REGION);
+		buffer.putInt(MAGIC);
+		buffer.putInt(VERSION);
+		buffer.putLong(0);
+	}
+
+	/**
+	 * Appends an event to this log; events of kinds that cannot be reconstructed are ignored.
+	 *
+	 * @param event The event to record.
+	 */
+	public synchronized void record(final EventObject event) {
+		if (closed) {
+			return;
+		}
+		final long time = System.nanoTime() - start;
+		try {
+			if (event instanceof MouseWheelEvent) {
+				final MouseWheelEvent e = (MouseWheelEvent) event;
+				header(time, MOUSE_WHEEL, 36);
+				mouse(e);
+				buffer.putInt(e.getScrollType());
+				buffer.putInt(e.getScrollAmount());
+				buffer.putInt(e.getWheelRotation());
+			} else if (event instanceof MouseEvent) {
+				final MouseEvent e = (MouseEvent) event;
+				header(time, MOUSE, 24);
+				mouse(e);
+			} else if (event instanceof KeyEvent) {
+				final KeyEvent e = (KeyEvent) event;
+				header(time, KEY, 18);
+				buffer.putInt(e.getID());
+				buffer.putInt(e.getModifiers());
+				buffer.putInt(e.getKeyCode());
+				buffer.putChar(e.getKeyChar());
+				buffer.putInt(e.getKeyLocation());
+			} else if (event instanceof FocusEvent) {
+				final FocusEvent e = (FocusEvent) event;
+				header(time, FOCUS, 5);
+				buffer.putInt(e.getID());
+				buffer.put((byte) (e.isTemporary() ? 1 : 0));
+			} else if (event instanceof MessageEvent) {
+				final MessageEvent e = (MessageEvent) event;
+				final byte[] sender = bytes(e.getSender()), message = bytes(e.getMessage());
+				header(time, MESSAGE, 12 + sender.length + message.length);
+				buffer.putInt(e.getId());
+				buffer.putInt(sender.length);
+				buffer.put(sender);
+				buffer.putInt(message.length);
+				buffer.put(message);
+			} else if (event instanceof GeneralEvent) {
+				header(time, MARKER, 4);
+				buffer.putInt(((GeneralEvent) event).type);
+			} else {
+				return;
+			}
+			++records;
+		} catch (final IOException ignored) {
+			close();
+		}
+	}
+
+	/**
+	 * @return The number of events recorded.
+	 */
+	public synchronized long getRecordCount() {
+		return records;
+	}
+
+	/**
+	 * Flushes and closes this log, recording its length in the header and truncating it to that length where the platform allows.
+	 */
+	public synchronized void close() {
+		if (closed) {
+			return;
+		}
+		closed = true;
+		final long length = base + buffer.position();
+		buffer.force();
+		buffer = null;
+		try {
+			final ByteBuffer header = ByteBuffer.allocate(8);
+			header.putLong(0, length);
+			channel.write(header, 8);
+			channel.force(false);
+			try {
+				channel.truncate(length);
+			} catch (final IOException ignored) {
+			}
+			file.close();
+		} catch (final IOException ignored) {
+		}
+	}
+
+	private void header(final long time, final byte kind, final int length) throws IOException {
+		final int size = 8 + 1 + length;
+		if (buffer.remaining() < size) {
+			base += buffer.position();
+			buffer.force();
+			buffer = channel.map(FileChannel.MapMode.READ_WRITE, base, Math.max(REGION, size));
+		}
+		buffer.putLong(time);
+		buffer.put(kind);
+	}
+
+	private void mouse(final MouseEvent e) {
+		buffer.putInt(e.getID());
+		buffer.putInt(e.getModifiers());
+		buffer.putInt(e.getX());
+		buffer.putInt(e.getY());
+		buffer.putInt(e.getClickCount());
+		buffer.putInt(e.getButton());
+	}
+
+	private static byte[] bytes(final String string) {
+		try {
+			return string == null ? new byte[0] : string.getBytes("UTF-8");
+		} catch (final IOException ignored) {
+			return new byte[0];
+		}
+	}
+}
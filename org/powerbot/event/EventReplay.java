@@ -0,0 +1,200 @@
+package org.powerbot.event;
+
+import java.awt.Component;
+import java.awt.Graphics;
+import java.awt.event.FocusEvent;
+import java.awt.event.KeyEvent;
+import java.awt.event.MouseEvent;
+import java.awt.event.MouseWheelEvent;
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.EventObject;
+
+import org.powerbot.concurrent.Task;
+import org.powerbot.game.bot.event.MessageEvent;
+import org.powerbot.game.bot.event.PaintEvent;
+import org.powerbot.game.bot.event.TextPaintEvent;
+
+/**
+ * Feeds a log written by <code>EventRecorder</code> back into an event manager, at the recorded pace or accelerated.
+ * Input and message events are dispatched through the manager's queue; paint markers are fired once their time is due,
+ * with the graphics of an off-screen image, as the client would on each frame.
+ *
+ * @author Timer
+ */
+public class EventReplay implements Task {
+	private final MappedByteBuffer buffer;
+	private final EventManager manager;
+	private final Component source;
+	private final double speed;
+	private final BufferedImage image;
+	private final PaintEvent paintEvent;
+	private final TextPaintEvent textPaintEvent;
+	private volatile boolean running;
+	private volatile long replayed;
+
+	/**
+	 * @param path    The log to replay.
+	 * @param manager The <code>EventManager</code> to feed events into.
+	 * @param source  The component reconstructed input events originate from.
+	 * @param speed   The multiple of the recorded pace to replay at, or <code>0</code> to replay without delays.
+	 * @throws IOException If the log cannot be read or is not an event log.
+	 */
+	public EventReplay(final File path, final EventManager manager, final Component source, final double speed) throws IOException {
+		if (speed < 0) {
+			throw new IllegalArgumentException();
+		}
+		final RandomAccessFile file = new RandomAccessFile(path, "r");
+		try {
+			this.buffer = file.getChannel().map(FileChannel.MapMode.READ_ONLY, 0, file.length());
+		} finally {
+			file.close();
+		}
+		if (buffer.remaining() < EventRecorder.HEADER || buffer.getInt() != EventRecorder.MAGIC || buffer.getInt() != EventRecorder.VERSION) {
+			throw new IOException("not an event log");
+		}
+		final long length = buffer.getLong();
+		if (length >= EventRecorder.HEADER && length < buffer.capacity()) {
+			buffer.limit((int) length);
+		}
+		this.manager = manager;
+		this.source = source;
+		this.speed = speed;
+		this.image = new BufferedImage(765, 503, BufferedImage.TYPE_INT_RGB);
+		this.paintEvent = new PaintEvent();
+		this.textPaintEvent = new TextPaintEvent();
+		this.running = false;
+		this.replayed = 0;
+	}
+
+	/**
+	 * Replays the log from its beginning until its end or until stopped.
+	 */
+	public void run() {
+		running = true;
+		buffer.position(EventRecorder.HEADER);
+		final long start = System.nanoTime();
+		while (running && buffer.remaining() > 9) {
+			final long time = buffer.getLong();
+			final byte kind = buffer.get();
+			if (kind == 0) {
+				break;
+			}
+			final EventObject event = read(kind);
+			if (speed > 0) {
+				final long due = start + (long) (time / speed);
+				long now;
+				while (running && (now = System.nanoTime()) < due) {
+					try {
+						Thread.sleep((due - now) / 1000000L, (int) ((due - now) % 1000000L));
+					} catch (final InterruptedException ignored) {
+						running = false;
+					}
+				}
+			}
+			if (event instanceof Marker) {
+				paint(((Marker) event).type);
+			} else if (event != null) {
+				manager.dispatch(event);
+			}
+			++replayed;
+		}
+		running = false;
+	}
+
+	/**
+	 * Stops replaying after the current event.
+	 */
+	public void stop() {
+		running = false;
+	}
+
+	public boolean isRunning() {
+		return running;
+	}
+
+	/**
+	 * @return The number of records replayed.
+	 */
+	public long getReplayedCount() {
+		return replayed;
+	}
+
+	private EventObject read(final byte kind) {
+		switch (kind) {
+		case EventRecorder.MOUSE:
+		case EventRecorder.MOUSE_WHEEL: {
+			final int id = buffer.getInt(), modifiers = buffer.getInt(), x = buffer.getInt(), y = buffer.getInt();
+			final int clickCount = buffer.getInt(), button = buffer.getInt();
+			if (kind == EventRecorder.MOUSE_WHEEL) {
+				final int scrollType = buffer.getInt(), scrollAmount = buffer.getInt(), wheelRotation = buffer.getInt();
+				return new MouseWheelEvent(source, id, System.currentTimeMillis(), modifiers, x, y, clickCount, false,
+						scrollType, scrollAmount, wheelRotation);
+			}
+			return new MouseEvent(source, id, System.currentTimeMillis(), modifiers, x, y, clickCount, false, button);
+		}
+		case EventRecorder.KEY: {
+			final int id = buffer.getInt(), modifiers = buffer.getInt(), keyCode = buffer.getInt();
+			final char keyChar = buffer.getChar();
+			final int keyLocation = buffer.getInt();
+			return new KeyEvent(source, id, System.currentTimeMillis(), modifiers, keyCode, keyChar, keyLocation);
+		}
+		case EventRecorder.FOCUS: {
+			final int id = buffer.getInt();
+			return new FocusEvent(source, id, buffer.get() != 0);
+		}
+		case EventRecorder.MESSAGE: {
+			final int id = buffer.getInt();
+			final String sender = string(), message = string();
+			return new MessageEvent(id, sender, message);
+		}
+		case EventRecorder.MARKER:
+			return new Marker(buffer.getInt());
+		default:
+			throw new IllegalStateException("corrupt event log");
+		}
+	}
+
+	private void paint(final int type) {
+		final Graphics graphics = image.getGraphics();
+		try {
+			if (type == EventDispatcher.PAINT_EVENT) {
+				paintEvent.graphics = graphics;
+				manager.fire(paintEvent);
+			} else if (type == EventDispatcher.TEXT_PAINT_EVENT) {
+				textPaintEvent.graphics = graphics;
+				textPaintEvent.id = 0;
+				manager.fire(textPaintEvent);
+			}
+		} finally {
+			graphics.dispose();
+		}
+	}
+
+	private String string() {
+		final byte[] bytes = new byte[buffer.getInt()];
+		buffer.get(bytes);
+		try {
+			return new String(bytes, "UTF-8");
+		} catch (final IOException ignored) {
+			return "";
+		}
+	}
+
+	/**
+	 * A recorded paint marker, fired once its time is due.
+	 */
+	private static final class Marker extends EventObject {
+		private static final long serialVersionUID = 1L;
+		private final int type;
+
+		private Marker(final int type) {
+			super(EventReplay.class);
+			this.type = type;
+		}
+	}
+}
@@ -9,6 +9,7 @@ import java.util.logging.Level;
 import java.util.logging.Logger;
 
 import org.powerbot.asm.NodeManipulator;
+import org.powerbot.concurrent.PooledTaskExecutor;
 import org.powerbot.concurrent.TaskContainer;
 import org.powerbot.concurrent.TaskProcessor;
 import org.powerbot.game.loader.AdaptException;
@@ -16,6 +17,7 @@ import org.powerbot.game.loader.Crawler;
 import org.powerbot.game.loader.PackEncryption;
 import org.powerbot.game.loader.applet.ClientStub;
 import org.powerbot.game.loader.applet.Rs2Applet;
+import org.powerbot.util.Configuration;
 import org.powerbot.util.StringUtil;
 import org.powerbot.util.io.HttpClient;
 import org.powerbot.util.io.IOHelper;
@@ -41,7 +43,12 @@ public abstract class GameDefinition implements GameEnvironment {
 
 	public GameDefinition() {
 		threadGroup = new ThreadGroup(THREADGROUPNAMEPREFIX + hashCode());
-		container = new TaskProcessor(threadGroup);
+		if (Configuration.TASKPOOL > 0) {
+			container = new TaskProcessor(threadGroup, Configuration.TASKPOOL, Math.max(Configuration.TASKPOOL, Configuration.TASKPOOLMAX), 60000,
+					Configuration.TASKPOOLQUEUE, PooledTaskExecutor.Rejection.CALLER_RUNS);
+		} else {
+			container = new TaskProcessor(threadGroup);
+		}
 		classes = new HashMap<String, byte[]>();
 
 		crawler = new Crawler();
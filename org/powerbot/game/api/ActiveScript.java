@@ -7,17 +7,23 @@ import java.util.List;
 import java.util.concurrent.Future;
 import java.util.logging.Logger;
 
+import org.powerbot.concurrent.LoopScheduler;
 import org.powerbot.concurrent.LoopTask;
+import org.powerbot.concurrent.PooledTaskExecutor;
 import org.powerbot.concurrent.Processor;
+import org.powerbot.concurrent.SharedTaskProcessor;
 import org.powerbot.concurrent.Task;
 import org.powerbot.concurrent.TaskContainer;
 import org.powerbot.concurrent.TaskProcessor;
+import org.powerbot.concurrent.ThreadPool;
+import org.powerbot.concurrent.VirtualTaskProcessor;
 import org.powerbot.concurrent.strategy.DaemonState;
 import org.powerbot.concurrent.strategy.Strategy;
 import org.powerbot.concurrent.strategy.StrategyDaemon;
 import org.powerbot.concurrent.strategy.StrategyGroup;
 import org.powerbot.event.EventManager;
 import org.powerbot.game.bot.Context;
+import org.powerbot.util.Configuration;
 
 /**
  * @author Timer
@@ -28,6 +34,7 @@ public abstract class ActiveScript implements EventListener, Processor {
 	private EventManager eventManager;
 	private TaskContainer container;
 	private StrategyDaemon executor;
+	private LoopScheduler scheduler;
 	private final List<LoopTask> loopTasks;
 	private final List<EventListener> listeners;
 
@@ -38,6 +45,7 @@ public abstract class ActiveScript implements EventListener, Processor {
 		eventManager = null;
 		container = null;
 		executor = null;
+		scheduler = null;
 		loopTasks = Collections.synchronizedList(new ArrayList<LoopTask>());
 		listeners = Collections.synchronizedList(new ArrayList<EventListener>());
 		silent = false;
@@ -46,8 +54,23 @@ public abstract class ActiveScript implements EventListener, Processor {
 	public final void init(final Context context) {
 		this.context = context;
 		eventManager = context.getEventManager();
-		container = new TaskProcessor(context.getThreadGroup());
+		if (Configuration.SHAREDPOOL > 0) {
+			final SharedTaskProcessor processor = new SharedTaskProcessor(context.getThreadGroup());
+			container = processor;
+			scheduler = new LoopScheduler(context.getThreadGroup(), processor.getLane());
+		} else if (Configuration.VIRTUALTHREADS && VirtualTaskProcessor.isSupported()) {
+			container = new VirtualTaskProcessor(context.getThreadGroup());
+		} else if (Configuration.TASKPOOL > 0) {
+			container = new TaskProcessor(context.getThreadGroup(), Configuration.TASKPOOL, Math.max(Configuration.TASKPOOL, Configuration.TASKPOOLMAX), 60000,
+					Configuration.TASKPOOLQUEUE, PooledTaskExecutor.Rejection.CALLER_RUNS);
+		} else {
+			container = new TaskProcessor(context.getThreadGroup());
+		}
 		executor = new StrategyDaemon(container, context.getContainer());
+		if (scheduler == null && Configuration.SCHEDULEDLOOPS) {
+			scheduler = new LoopScheduler(context.getThreadGroup(), 2);
+		}
+		context.getTickMonitor().register(executor);
 	}
 
 	protected final void provide(final Strategy strategy) {
@@ -94,7 +117,7 @@ public abstract class ActiveScript implements EventListener, Processor {
 		loopTasks.add(loopTask);
 		listeners.add(loopTask);
 		eventManager.accept(loopTask);
-		container.submit(loopTask);
+		deploy(loopTask);
 		return true;
 	}
 
@@ -137,7 +160,7 @@ public abstract class ActiveScript implements EventListener, Processor {
 
 			if (!task.isRunning()) {
 				task.start();
-				container.submit(task);
+				deploy(task);
 			}
 		}
 		for (final EventListener eventListener : listeners) {
@@ -191,9 +214,13 @@ public abstract class ActiveScript implements EventListener, Processor {
 		}
 		listeners.clear();
 		executor.destroy();
+		context.getTickMonitor().unregister(executor);
 		container.shutdown();
+		if (scheduler != null) {
+			scheduler.shutdown();
+		}
 
-		final String name = Thread.currentThread().getThreadGroup().getName();
+		final String name = ThreadPool.getThreadGroup().getName();
 		if (name.startsWith("GameDefinition-") ||
 				name.startsWith("ThreadPool-")) {
 			context.updateControls();
@@ -205,6 +232,17 @@ public abstract class ActiveScript implements EventListener, Processor {
 
 	public final void kill() {
 		container.stop();
+		if (scheduler != null) {
+			scheduler.stop();
+		}
+	}
+
+	private void deploy(final LoopTask loopTask) {
+		if (scheduler != null) {
+			scheduler.submit(loopTask);
+		} else {
+			container.submit(loopTask);
+		}
 	}
 
 	protected final DaemonState getState() {
@@ -230,4 +268,11 @@ public abstract class ActiveScript implements EventListener, Processor {
 	public final TaskContainer getContainer() {
 		return container;
 	}
+
+	/**
+	 * @return <tt>true</tt> if a task or a scheduled loop iteration of this script is executing; otherwise <tt>false</tt>.
+	 */
+	public final boolean isActive() {
+		return container.isActive() || (scheduler != null && scheduler.isActive());
+	}
 }
@@ -5,7 +5,6 @@ import java.awt.Point;
 
 import org.powerbot.game.api.methods.interactive.Players;
 import org.powerbot.game.api.methods.widget.WidgetComposite;
-import org.powerbot.game.api.util.internal.Multipliers;
 import org.powerbot.game.api.wrappers.Locatable;
 import org.powerbot.game.api.wrappers.RegionOffset;
 import org.powerbot.game.api.wrappers.Tile;
@@ -134,8 +133,8 @@ public class Calculations {
 	 * @return <code>Point</code> within map; otherwise <tt>new Point(-1, -1)</tt>.
 	 */
 	public static Point worldToMap(double x, double y) {
-		final Client client = Context.client();
-		final Multipliers multipliers = Context.multipliers();
+		final Context context = Context.get();
+		final Client client = context.getClient();
 		final Player local = Players.getLocal();
 		x -= Game.getBaseX();
 		y -= Game.getBaseY();
@@ -153,17 +152,17 @@ public class Calculations {
 
 		if (mmDist * mmDist >= actDistSq) {
 			int angle = 0x3fff & (int) client.getMinimapAngle();
-			final boolean setting4 = client.getMinimapSetting() * multipliers.GLOBAL_MINIMAPSETTING == 4;
+			final boolean setting4 = client.getMinimapSetting() == 4;
 
 			if (!setting4) {
-				angle = 0x3fff & (client.getMinimapOffset() * multipliers.GLOBAL_MINIMAPOFFSET) + (int) client.getMinimapAngle();
+				angle = 0x3fff & client.getMinimapOffset() + (int) client.getMinimapAngle();
 			}
 
 			int cs = Calculations.SIN_TABLE[angle];
 			int cc = Calculations.COS_TABLE[angle];
 
 			if (!setting4) {
-				final int fact = 0x100 + (client.getMinimapScale() * multipliers.GLOBAL_MINIMAPSCALE);
+				final int fact = 0x100 + client.getMinimapScale();
 				cs = 0x100 * cs / fact;
 				cc = 0x100 * cc / fact;
 			}
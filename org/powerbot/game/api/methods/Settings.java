@@ -15,16 +15,18 @@ public class Settings {
 	 * @return The <code>int[]</code> of all the game's settings in their respective positioning.
 	 */
 	public static int[] get() {
-		return ((int[]) ((org.powerbot.game.client.Settings) Context.client().getSettingArray()).getData()).clone();
+		return getData().clone();
 	}
 
 	/**
+	 * Reads a single setting from the client without copying the settings array.
+	 *
 	 * @param index The position of this setting in the game's database.
 	 * @return The setting value of the desired index.
 	 */
 	public static int get(final int index) {
-		final int[] settings = get();
-		if (index < settings.length) {
+		final int[] settings = getData();
+		if (index >= 0 && index < settings.length) {
 			return settings[index];
 		}
 		return -1;
@@ -52,4 +54,8 @@ public class Settings {
 	public static int get(final int index, final int shift, final int mask) {
 		return (get(index) >>> shift) & mask;
 	}
+
+	private static int[] getData() {
+		return (int[]) ((org.powerbot.game.client.Settings) Context.client().getSettingArray()).getData();
+	}
 }
@@ -2,11 +2,11 @@ package org.powerbot.game.api.methods;
 
 import java.awt.event.KeyEvent;
 
+import org.powerbot.concurrent.strategy.Condition;
 import org.powerbot.game.api.methods.input.Keyboard;
 import org.powerbot.game.api.methods.widget.WidgetComposite;
 import org.powerbot.game.api.util.Random;
 import org.powerbot.game.api.util.Time;
-import org.powerbot.game.api.util.Timer;
 import org.powerbot.game.api.wrappers.widget.WidgetChild;
 
 /**
@@ -73,10 +73,11 @@ public enum Tabs {
 			final WidgetChild widgetChild = WidgetComposite.getTab(this);
 			if (widgetChild != null && widgetChild.validate()) {
 				if (widgetChild.click(true)) {
-					final Timer timer = new Timer(800);
-					while (timer.isRunning() && getCurrent() != this) {
-						Time.sleep(15);
-					}
+					Time.await(new Condition() {
+						public boolean validate() {
+							return getCurrent() == Tabs.this;
+						}
+					}, 800);
 				}
 			}
 		}
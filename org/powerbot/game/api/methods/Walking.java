@@ -2,12 +2,11 @@ package org.powerbot.game.api.methods;
 
 import java.awt.Point;
 
+import org.powerbot.concurrent.strategy.Condition;
 import org.powerbot.game.api.methods.input.Mouse;
 import org.powerbot.game.api.methods.interactive.Players;
 import org.powerbot.game.api.util.Filter;
 import org.powerbot.game.api.util.Time;
-import org.powerbot.game.api.util.Timer;
-import org.powerbot.game.api.util.internal.Multipliers;
 import org.powerbot.game.api.wrappers.Locatable;
 import org.powerbot.game.api.wrappers.Tile;
 import org.powerbot.game.api.wrappers.ViewportEntity;
@@ -30,9 +29,8 @@ public class Walking {
 
 	public static Tile getDestination() {
 		final Client client = Context.client();
-		final Multipliers multipliers = Context.multipliers();
-		final int lx = (client.getDestX() * multipliers.GLOBAL_DESTX) / 4;
-		final int ly = (client.getDestY() * multipliers.GLOBAL_DESTY) / 4;
+		final int lx = client.getDestX() / 4;
+		final int ly = client.getDestY() / 4;
 		if (lx == -1 || ly == -1) {
 			return new Tile(-1, -1, -1);
 		}
@@ -48,10 +46,9 @@ public class Walking {
 	 * @return The <code>Tile</code> of the offset location (different than map base!).
 	 */
 	public static Tile getCollisionOffset(final int plane) {
-		final Multipliers multipliers = Context.multipliers();
 		final RSInfo info = (RSInfo) Context.client().getRSGroundInfo();
 		final RSGroundData data = ((RSGroundData[]) info.getGroundData())[plane];
-		return new Tile(data.getX() * multipliers.GROUNDDATA_X, data.getY() * multipliers.GROUNDDATA_Y, plane);
+		return new Tile(data.getX(), data.getY(), plane);
 	}
 
 	/**
@@ -66,10 +63,11 @@ public class Walking {
 
 	public static void setRun(final boolean enabled) {
 		if (isRunEnabled() != enabled && Widgets.get(WIDGET, WIDGET_RUN).click(true)) {
-			final Timer t = new Timer(1800);
-			while (t.isRunning() && isRunEnabled() != enabled) {
-				Time.sleep(5);
-			}
+			Time.await(new Condition() {
+				public boolean validate() {
+					return isRunEnabled() == enabled;
+				}
+			}, 1800);
 		}
 	}
 
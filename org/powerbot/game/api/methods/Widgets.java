@@ -2,16 +2,18 @@ package org.powerbot.game.api.methods;
 
 import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.HashMap;
-import java.util.Map;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 
 import org.powerbot.game.api.methods.input.Mouse;
+import org.powerbot.game.api.methods.widget.WidgetIndex;
 import org.powerbot.game.api.util.Random;
 import org.powerbot.game.api.util.Time;
 import org.powerbot.game.api.wrappers.widget.Widget;
 import org.powerbot.game.api.wrappers.widget.WidgetChild;
+import org.powerbot.game.bot.Attribute;
 import org.powerbot.game.bot.Context;
 import org.powerbot.game.client.Client;
+import org.powerbot.game.client.RSInterfaceBase;
 
 /**
  * A utility for the manipulation of widgets.
@@ -19,9 +21,17 @@ import org.powerbot.game.client.Client;
  * @author Timer
  */
 public class Widgets {
-	private static final Map<Client, Widget[]> caches = new HashMap<Client, Widget[]>();
+	private static final Attribute<Registry> registries = new Attribute<Registry>() {
+		@Override
+		protected Registry initialValue() {
+			return new Registry();
+		}
+	};
 
 	/**
+	 * Loaded widgets are only validated again when the client marks them valid or invalid or replaces their components,
+	 * so consecutive calls cost little more than a pass over the valid interface array.
+	 *
 	 * @return An <code>Widget[]</code> of the latest cached widgets.
 	 */
 	public static Widget[] getLoaded() {
@@ -29,21 +39,44 @@ public class Widgets {
 		if (client == null) {
 			return new Widget[0];
 		}
-		ensureCapacity(client);
 		final Object[] clientInterfaceCache = client.getRSInterfaceCache();
 		if (clientInterfaceCache == null) {
 			return new Widget[0];
 		}
-		final ArrayList<Widget> validInterfaces = new ArrayList<Widget>();
-		for (int index = 0; index < clientInterfaceCache.length; index++) {
-			if (clientInterfaceCache[index] != null) {
-				final Widget widget = get(index);
-				if (widget.validate()) {
-					validInterfaces.add(widget);
+		final boolean[] validArray = client.getValidRSInterfaceArray();
+		final Registry registry = registries.get();
+		synchronized (registry) {
+			final int length = clientInterfaceCache.length;
+			if (registry.components.length < length) {
+				registry.components = Arrays.copyOf(registry.components, length);
+				registry.valid = Arrays.copyOf(registry.valid, length);
+			}
+			boolean changed = false;
+			for (int index = 0; index < registry.components.length; index++) {
+				Object components = null;
+				if (index < length && clientInterfaceCache[index] != null && validArray != null && index < validArray.length && validArray[index]) {
+					components = ((RSInterfaceBase) clientInterfaceCache[index]).getComponents();
+				}
+				if (components != registry.components[index] || (components != null && !registry.valid[index])) {
+					registry.components[index] = components;
+					final boolean valid = components != null && get(index).validate();
+					if (valid != registry.valid[index]) {
+						registry.valid[index] = valid;
+						changed = true;
+					}
+				}
+			}
+			if (changed) {
+				final ArrayList<Widget> validInterfaces = new ArrayList<Widget>();
+				for (int index = 0; index < registry.valid.length; index++) {
+					if (registry.valid[index]) {
+						validInterfaces.add(get(index));
+					}
 				}
+				registry.loaded = validInterfaces.toArray(new Widget[validInterfaces.size()]);
 			}
+			return registry.loaded.clone();
 		}
-		return validInterfaces.toArray(new Widget[validInterfaces.size()]);
 	}
 
 	/**
@@ -55,28 +88,20 @@ public class Widgets {
 			throw new RuntimeException("index < 0 (" + index + ")");
 		}
 
-		final Client client = Context.client();
-		Widget[] cachedInterfaces = caches.get(client);
-		if (cachedInterfaces == null) {
-			cachedInterfaces = new Widget[100];
-			caches.put(client, cachedInterfaces);
-		}
-		Widget widget;
-		if (index < cachedInterfaces.length) {
-			widget = cachedInterfaces[index];
-			if (widget == null) {
-				widget = new Widget(index);
-				cachedInterfaces[index] = widget;
-			}
-		} else {
-			widget = new Widget(index);
-			ensureCapacity(client);
-			cachedInterfaces = caches.get(client);
-			if (index < cachedInterfaces.length) {
-				cachedInterfaces[index] = widget;
-			}
+		final Context context = Context.get();
+		final Registry registry = registries.get(context);
+		AtomicReferenceArray<Widget> widgets = registry.widgets;
+		if (index >= widgets.length()) {
+			final Client client = context.getClient();
+			final Object[] clientInterfaceCache = client != null ? client.getRSInterfaceCache() : null;
+			widgets = registry.ensureCapacity(Math.max(index + 1, clientInterfaceCache != null ? clientInterfaceCache.length : 0));
 		}
-		return widget;
+		final Widget widget = widgets.get(index);
+		if (widget != null) {
+			return widget;
+		}
+		widgets.compareAndSet(index, null, new Widget(index));
+		return widgets.get(index);
 	}
 
 	/**
@@ -94,6 +119,58 @@ public class Widgets {
 		return get(x).getChild(y);
 	}
 
+	/**
+	 * @param action The action to look for, ignoring case.
+	 * @return The children of valid widgets offering the action.
+	 */
+	public static WidgetChild[] findByAction(final String action) {
+		final ArrayList<WidgetChild> children = new ArrayList<WidgetChild>();
+		for (final int id : WidgetIndex.getByAction(action)) {
+			final WidgetChild child = getChild(id);
+			final String[] actions = child.getActions();
+			if (actions != null) {
+				for (final String a : actions) {
+					if (a != null && a.equalsIgnoreCase(action)) {
+						children.add(child);
+						break;
+					}
+				}
+			}
+		}
+		return children.toArray(new WidgetChild[children.size()]);
+	}
+
+	/**
+	 * @param text The text to look for, ignoring case.
+	 * @return The children of valid widgets displaying exactly the text.
+	 */
+	public static WidgetChild[] findByText(final String text) {
+		return getChildren(WidgetIndex.getByText(text));
+	}
+
+	/**
+	 * @param specialType The special type to look for.
+	 * @return The children of valid widgets of the special type.
+	 */
+	public static WidgetChild[] findBySpecialType(final int specialType) {
+		final ArrayList<WidgetChild> children = new ArrayList<WidgetChild>();
+		for (final int id : WidgetIndex.getBySpecialType(specialType)) {
+			final WidgetChild child = getChild(id);
+			if (child.getSpecialType() == specialType) {
+				children.add(child);
+			}
+		}
+		return children.toArray(new WidgetChild[children.size()]);
+	}
+
+	/**
+	 * @param childId The component id to look for, such as the id of an item.
+	 * @return The children of valid widgets with the component id.
+	 */
+	public static WidgetChild[] findByChildId(final int childId) {
+		return getChildren(WidgetIndex.getByComponentId(childId));
+	}
+
 	public static WidgetChild getContinue() {
 		WidgetChild button = get(752, 5);
 		if (button != null && button.validate() && button.getTextColor() == 128 && button.getRelativeX() == 0) {
@@ -168,21 +245,38 @@ public class Widgets {
 		return component.getAbsoluteY() >= areaY && component.getAbsoluteY() <= areaY + areaHeight - component.getHeight();
 	}
 
+	private static WidgetChild[] getChildren(final int[] ids) {
+		final WidgetChild[] children = new WidgetChild[ids.length];
+		for (int i = 0; i < ids.length; i++) {
+			children[i] = getChild(ids[i]);
+		}
+		return children;
+	}
+
 	/**
-	 * @param client The <code>Client</code> to ensure caching capacity of.
+	 * The widget wrappers of a bot, along with the state last used to determine which of them are loaded.
 	 */
-	private static void ensureCapacity(final Client client) {
-		if (client == null) {
-			return;
-		}
-		final Object[] clientInterfaceCache = client.getRSInterfaceCache();
-		Widget[] cachedInterfaces = caches.get(client);
-		if (cachedInterfaces == null) {
-			cachedInterfaces = new Widget[100];
-			caches.put(client, cachedInterfaces);
-		}
-		if ((clientInterfaceCache != null) && (cachedInterfaces.length < clientInterfaceCache.length)) {
-			caches.put(client, Arrays.copyOf(cachedInterfaces, clientInterfaceCache.length));
+	private static final class Registry {
+		private volatile AtomicReferenceArray<Widget> widgets = new AtomicReferenceArray<Widget>(100);
+		private Object[] components = new Object[0];
+		private boolean[] valid = new boolean[0];
+		private Widget[] loaded = new Widget[0];
+
+		/**
+		 * @param length The minimum number of widgets to hold.
+		 * @return The array of widgets, grown to hold at least the given number.
+		 */
+		private synchronized AtomicReferenceArray<Widget> ensureCapacity(final int length) {
+			final AtomicReferenceArray<Widget> widgets = this.widgets;
+			if (widgets.length() >= length) {
+				return widgets;
+			}
+			final AtomicReferenceArray<Widget> grown = new AtomicReferenceArray<Widget>(length);
+			for (int index = 0; index < widgets.length(); index++) {
+				grown.set(index, widgets.get(index));
+			}
+			this.widgets = grown;
+			return grown;
 		}
 	}
 }
@@ -6,14 +6,14 @@ import java.awt.Point;
 import java.awt.Rectangle;
 import java.awt.event.MouseEvent;
 import java.awt.event.MouseWheelEvent;
-import java.util.HashMap;
-import java.util.Map;
 
+import org.powerbot.concurrent.CancellationToken;
 import org.powerbot.game.api.methods.Calculations;
 import org.powerbot.game.api.util.Filter;
 import org.powerbot.game.api.util.Random;
 import org.powerbot.game.api.util.Time;
 import org.powerbot.game.api.wrappers.ViewportEntity;
+import org.powerbot.game.bot.Attribute;
 import org.powerbot.game.bot.Context;
 import org.powerbot.game.bot.handler.input.MouseExecutor;
 import org.powerbot.game.bot.handler.input.util.MouseNode;
@@ -32,8 +32,18 @@ public class Mouse {
 	public static final int PRIORITY_VERY_HIGH = 1000;
 	public static final int PRIORITY_REAL_TIME = Integer.MAX_VALUE;
 
-	private static final Map<ThreadGroup, Integer> dragLengths = new HashMap<ThreadGroup, Integer>();
-	private static final Map<ThreadGroup, Integer> sides = new HashMap<ThreadGroup, Integer>();
+	private static final Attribute<Integer> dragLength = new Attribute<Integer>() {
+		@Override
+		protected Integer initialValue() {
+			return 0;
+		}
+	};
+	private static final Attribute<Integer> side = new Attribute<Integer>() {
+		@Override
+		protected Integer initialValue() {
+			return 0;
+		}
+	};
 
 	/**
 	 * @return The local x position of the mouse.
@@ -246,6 +256,10 @@ public class Mouse {
 		final MouseExecutor executor = Context.get().getExecutor();
 		final MouseNode node = create(x, y, randomX, randomY, false, false);
 		while (node.getTimer().isRunning() && node.processable()) {
+			if (CancellationToken.isCurrentCancelled()) {
+				node.cancel();
+				break;
+			}
 			executor.step(node);
 		}
 		return node.isCompleted();
@@ -259,6 +273,10 @@ public class Mouse {
 		final MouseExecutor executor = Context.get().getExecutor();
 		final MouseNode node = new MouseNode(viewportEntity, filter);
 		while (node.getTimer().isRunning() && node.processable()) {
+			if (CancellationToken.isCurrentCancelled()) {
+				node.cancel();
+				break;
+			}
 			executor.step(node);
 		}
 		return node.isCompleted();
@@ -372,29 +390,19 @@ public class Mouse {
 	}
 
 	private static int getDragLength() {
-		Integer integer = dragLengths.get(Thread.currentThread().getThreadGroup());
-		if (integer == null) {
-			integer = 0;
-			dragLengths.put(Thread.currentThread().getThreadGroup(), integer);
-		}
-		return integer;
+		return dragLength.get();
 	}
 
 	private static void putDragLength(final int length) {
-		dragLengths.put(Thread.currentThread().getThreadGroup(), length);
+		dragLength.set(length);
 	}
 
 	public static int getSide() {
-		Integer integer = sides.get(Thread.currentThread().getThreadGroup());
-		if (integer == null) {
-			integer = 0;
-			sides.put(Thread.currentThread().getThreadGroup(), integer);
-		}
-		return integer;
+		return side.get();
 	}
 
 	public static void putSide(final int side) {
-		sides.put(Thread.currentThread().getThreadGroup(), side);
+		Mouse.side.set(side);
 	}
 
 	private static MouseNode create(final int x, final int y, final int randomX, final int randomY, final boolean click, final boolean left) {
@@ -5,6 +5,7 @@ import java.util.Set;
 
 import org.powerbot.game.api.methods.Calculations;
 import org.powerbot.game.api.util.Filter;
+import org.powerbot.game.api.util.QueryCache;
 import org.powerbot.game.api.util.node.Nodes;
 import org.powerbot.game.api.wrappers.RegionOffset;
 import org.powerbot.game.api.wrappers.interactive.NPC;
@@ -40,16 +41,11 @@ public class NPCs {
 	 * @return An array of the currently loaded NPCs in the game that have one of the provided Ids.
 	 */
 	public static NPC[] getLoaded(final int... ids) {
-		return getLoaded(new Filter<NPC>() {
-			public boolean accept(final NPC npc) {
-				for (final int id : ids) {
-					if (npc.getId() == id) {
-						return true;
-					}
-				}
-				return false;
+		return QueryCache.get(new QueryCache.Query<NPC[]>() {
+			public NPC[] execute() {
+				return load(getFilter(ids));
 			}
-		});
+		}, "NPCs.getLoaded", ids.clone()).clone();
 	}
 
 	/**
@@ -57,11 +53,18 @@ public class NPCs {
 	 * @return An array of the currently loaded Npcs in the game that are accepted by the provided filter.
 	 */
 	public static NPC[] getLoaded(final Filter<NPC> filter) {
+		return QueryCache.get(new QueryCache.Query<NPC[]>() {
+			public NPC[] execute() {
+				return load(filter);
+			}
+		}, "NPCs.getLoaded", filter).clone();
+	}
+
+	private static NPC[] load(final Filter<NPC> filter) {
 		final Client client = Context.client();
-		final int[] indices = client.getRSNPCIndexArray();
+		final Node[] nodes = Nodes.bind((HashTable) client.getRSNPCNC()).lookup(client.getRSNPCIndexArray());
 		final Set<NPC> npcs = new HashSet<NPC>();
-		for (final int index : indices) {
-			final Node node = Nodes.lookup((HashTable) client.getRSNPCNC(), index);
+		for (final Node node : nodes) {
 			if (node != null) {
 				NPC npc = null;
 				if (node instanceof RSNPCNode) {
@@ -82,24 +85,52 @@ public class NPCs {
 	 * @return The nearest Npc with one of these Ids if any present, else <i>null</i>.
 	 */
 	public static NPC getNearest(final int... ids) {
-		return getNearest(new Filter<NPC>() {
+		return QueryCache.get(new QueryCache.Query<NPC>() {
+			public NPC execute() {
+				return nearest(getFilter(ids));
+			}
+		}, "NPCs.getNearest", ids.clone());
+	}
+
+	/**
+	 * @param names Npc will be accepted if having one of these names.
+	 * @return The nearest Npc with one of these names if any present, else <i>null</i>.
+	 */
+	public static NPC getNearest(final String... names) {
+		return QueryCache.get(new QueryCache.Query<NPC>() {
+			public NPC execute() {
+				return nearest(getFilter(names));
+			}
+		}, "NPCs.getNearest", (Object) names.clone());
+	}
+
+	/**
+	 * @param filter The filtering <code>Filter</code> NPCs have to pass.
+	 * @return The nearest Npc passing the filter if any present, else <i>null</i>.
+	 */
+	public static NPC getNearest(final Filter<NPC> filter) {
+		return QueryCache.get(new QueryCache.Query<NPC>() {
+			public NPC execute() {
+				return nearest(filter);
+			}
+		}, "NPCs.getNearest", filter);
+	}
+
+	private static Filter<NPC> getFilter(final int... ids) {
+		return new Filter<NPC>() {
 			public boolean accept(final NPC npc) {
 				for (final int id : ids) {
-					if (id == npc.getId()) {
+					if (npc.getId() == id) {
 						return true;
 					}
 				}
 				return false;
 			}
-		});
+		};
 	}
 
-	/**
-	 * @param names Npc will be accepted if having one of these names.
-	 * @return The nearest Npc with one of these names if any present, else <i>null</i>.
-	 */
-	public static NPC getNearest(final String... names) {
-		return getNearest(new Filter<NPC>() {
+	private static Filter<NPC> getFilter(final String... names) {
+		return new Filter<NPC>() {
 			public boolean accept(final NPC npc) {
 				final String name = npc.getName();
 				if (name == null) {
@@ -112,21 +143,16 @@ public class NPCs {
 				}
 				return false;
 			}
-		});
+		};
 	}
 
-	/**
-	 * @param filter The filtering <code>Filter</code> NPCs have to pass.
-	 * @return The nearest Npc passing the filter if any present, else <i>null</i>.
-	 */
-	public static NPC getNearest(final Filter<NPC> filter) {
+	private static NPC nearest(final Filter<NPC> filter) {
 		final Client client = Context.client();
-		final int[] indices = client.getRSNPCIndexArray();
+		final Node[] nodes = Nodes.bind((HashTable) client.getRSNPCNC()).lookup(client.getRSNPCIndexArray());
 		NPC npc = null;
 		double distance = Double.MAX_VALUE;
 		final RegionOffset position = Players.getLocal().getRegionOffset();
-		for (final int index : indices) {
-			final Node node = Nodes.lookup((HashTable) client.getRSNPCNC(), index);
+		for (final Node node : nodes) {
 			if (node != null && node instanceof RSNPCNode) {
 				final NPC t_npc = new NPC((RSNPC) ((RSNPCNode) node).getRSNPC());
 				if (filter.accept(t_npc)) {
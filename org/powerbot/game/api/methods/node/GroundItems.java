@@ -7,6 +7,7 @@ import org.powerbot.game.api.methods.Calculations;
 import org.powerbot.game.api.methods.Game;
 import org.powerbot.game.api.methods.interactive.Players;
 import org.powerbot.game.api.util.Filter;
+import org.powerbot.game.api.util.QueryCache;
 import org.powerbot.game.api.util.node.Deque;
 import org.powerbot.game.api.util.node.Nodes;
 import org.powerbot.game.api.wrappers.RegionOffset;
@@ -38,11 +39,7 @@ public class GroundItems {
 
 
 	public static GroundItem[] getLoaded(final int id) {
-		return getLoaded(new Filter<GroundItem>() {
-			public boolean accept(final GroundItem groundItem) {
-				return groundItem.getGroundItem().getId() == id;
-			}
-		});
+		return getLoaded(104, id);
 	}
 
 	public static GroundItem[] getLoaded(final Filter<GroundItem> filter) {
@@ -50,11 +47,11 @@ public class GroundItems {
 	}
 
 	public static GroundItem[] getLoaded(final int range, final int id) {
-		return getLoaded(range, new Filter<GroundItem>() {
-			public boolean accept(final GroundItem groundItem) {
-				return groundItem.getGroundItem().getId() == id;
+		return QueryCache.get(new QueryCache.Query<GroundItem[]>() {
+			public GroundItem[] execute() {
+				return load(range, getFilter(id));
 			}
-		});
+		}, "GroundItems.getLoaded", range, id).clone();
 	}
 
 	/**
@@ -65,6 +62,14 @@ public class GroundItems {
 	 * @return <tt>GroundItem</tt> array containing all of the items in range.
 	 */
 	public static GroundItem[] getLoaded(final int range, final Filter<GroundItem> filter) {
+		return QueryCache.get(new QueryCache.Query<GroundItem[]>() {
+			public GroundItem[] execute() {
+				return load(range, filter);
+			}
+		}, "GroundItems.getLoaded", range, filter).clone();
+	}
+
+	private static GroundItem[] load(final int range, final Filter<GroundItem> filter) {
 		final ArrayList<GroundItem> temp = new ArrayList<GroundItem>();
 		final Tile tile = Players.getLocal().getLocation();
 		final int pX = tile.getX();
@@ -73,9 +78,11 @@ public class GroundItems {
 		final int baseY = Game.getBaseY();
 		final int minX = Math.max(baseX, pX - range), minY = Math.max(baseY, pY - range);
 		final int maxX = Math.min(baseX + 104, pX + range), maxY = Math.min(baseY + 104, pY + range);
+		final Nodes.Table table = Nodes.bind((HashTable) Context.client().getRSItemHashTable());
+		final int floor = Game.getPlane();
 		for (int x = minX; x < maxX; x++) {
 			for (int y = minY; y < maxY; y++) {
-				final GroundItem[] items = getLoadedAt(x, y);
+				final GroundItem[] items = getLoadedAt(table, x, y, floor);
 				for (final GroundItem item : items) {
 					if (item != null && filter.accept(item)) {
 						temp.add(item);
@@ -87,17 +94,11 @@ public class GroundItems {
 	}
 
 	public static GroundItem getNearest(final int... ids) {
-		return getNearest(new Filter<GroundItem>() {
-			public boolean accept(final GroundItem groundItem) {
-				final int itemID = groundItem.getId();
-				for (final int id : ids) {
-					if (itemID == id) {
-						return true;
-					}
-				}
-				return false;
+		return QueryCache.get(new QueryCache.Query<GroundItem>() {
+			public GroundItem execute() {
+				return nearest(104, getFilter(ids));
 			}
-		});
+		}, "GroundItems.getNearest", 104, ids.clone());
 	}
 
 	public static GroundItem getNearest(final Filter<GroundItem> filter) {
@@ -105,14 +106,44 @@ public class GroundItems {
 	}
 
 	public static GroundItem getNearest(final int range, final int id) {
-		return getNearest(range, new Filter<GroundItem>() {
+		return QueryCache.get(new QueryCache.Query<GroundItem>() {
+			public GroundItem execute() {
+				return nearest(range, getFilter(id));
+			}
+		}, "GroundItems.getNearest", range, id);
+	}
+
+	public static GroundItem getNearest(final int range, final Filter<GroundItem> filter) {
+		return QueryCache.get(new QueryCache.Query<GroundItem>() {
+			public GroundItem execute() {
+				return nearest(range, filter);
+			}
+		}, "GroundItems.getNearest", range, filter);
+	}
+
+	private static Filter<GroundItem> getFilter(final int id) {
+		return new Filter<GroundItem>() {
 			public boolean accept(final GroundItem groundItem) {
 				return groundItem.getGroundItem().getId() == id;
 			}
-		});
+		};
 	}
 
-	public static GroundItem getNearest(final int range, final Filter<GroundItem> filter) {
+	private static Filter<GroundItem> getFilter(final int... ids) {
+		return new Filter<GroundItem>() {
+			public boolean accept(final GroundItem groundItem) {
+				final int itemID = groundItem.getId();
+				for (final int id : ids) {
+					if (itemID == id) {
+						return true;
+					}
+				}
+				return false;
+			}
+		};
+	}
+
+	private static GroundItem nearest(final int range, final Filter<GroundItem> filter) {
 		GroundItem groundItem = null;
 		double distance = Double.MAX_VALUE;
 		final RegionOffset position = Players.getLocal().getRegionOffset();
@@ -123,9 +154,11 @@ public class GroundItems {
 		final int baseY = Game.getBaseY();
 		final int minX = Math.max(baseX, pX - range), minY = Math.max(baseY, pY - range);
 		final int maxX = Math.min(baseX + 104, pX + range), maxY = Math.min(baseY + 104, pY + range);
+		final Nodes.Table table = Nodes.bind((HashTable) Context.client().getRSItemHashTable());
+		final int floor = Game.getPlane();
 		for (int x = minX; x < maxX; x++) {
 			for (int y = minY; y < maxY; y++) {
-				final GroundItem[] items = getLoadedAt(x, y);
+				final GroundItem[] items = getLoadedAt(table, x, y, floor);
 				for (final GroundItem item : items) {
 					if (item != null && filter.accept(item)) {
 						final double dist = Calculations.distance(position, item.getRegionOffset());
@@ -151,20 +184,22 @@ public class GroundItems {
 		if (!Game.isLoggedIn()) {
 			return new GroundItem[0];
 		}
-		final List<GroundItem> groundItems = new ArrayList<GroundItem>();
 		final Client client = Context.client();
-		final HashTable itemHashTable = (HashTable) client.getRSItemHashTable();
-		final int floor = Game.getPlane();
+		return getLoadedAt(Nodes.bind((HashTable) client.getRSItemHashTable()), x, y, Game.getPlane());
+	}
+
+	private static GroundItem[] getLoadedAt(final Nodes.Table table, final int x, final int y, final int floor) {
+		final List<GroundItem> groundItems = new ArrayList<GroundItem>();
 		final int index = x | y << 14 | floor << 28;
 
-		final NodeListCache itemNodeListCache = (NodeListCache) Nodes.lookup(itemHashTable, index);
+		final NodeListCache itemNodeListCache = (NodeListCache) table.lookup(index);
 
 		if (itemNodeListCache == null || itemNodeListCache.getNodeList() == null) {
 			return new GroundItem[0];
 		}
 
 		final Deque<RSItem> itemDeque = new Deque<RSItem>((NodeDeque) itemNodeListCache.getNodeList());
-		for (RSItem item = itemDeque.getHead(); item != null; item = itemDeque.getNext()) {
+		for (final RSItem item : itemDeque) {
 			groundItems.add(new GroundItem(new Tile(x, y, floor), new Item(item)));
 		}
 		return groundItems.toArray(new GroundItem[groundItems.size()]);
@@ -5,11 +5,10 @@ import java.util.Collections;
 import java.util.LinkedList;
 import java.util.regex.Pattern;
 
+import org.powerbot.concurrent.strategy.Condition;
 import org.powerbot.game.api.methods.input.Mouse;
 import org.powerbot.game.api.util.Random;
 import org.powerbot.game.api.util.Time;
-import org.powerbot.game.api.util.Timer;
-import org.powerbot.game.api.util.internal.Multipliers;
 import org.powerbot.game.api.util.node.Deque;
 import org.powerbot.game.api.util.node.Queue;
 import org.powerbot.game.bot.Context;
@@ -30,10 +29,9 @@ public class Menu {
 	 */
 	public static Point getLocation() {
 		final Client client = Context.client();
-		final Multipliers multipliers = Context.multipliers();
 		return new Point(
-				client.getMenuX() * multipliers.GLOBAL_MENUX,
-				client.getMenuY() * multipliers.GLOBAL_MENUY
+				client.getMenuX(),
+				client.getMenuY()
 		);
 	}
 
@@ -42,10 +40,9 @@ public class Menu {
 	 */
 	public static Point getSubLocation() {
 		final Client client = Context.client();
-		final Multipliers multipliers = Context.multipliers();
 		return new Point(
-				client.getSubMenuX() * multipliers.GLOBAL_SUBMENUX,
-				client.getSubMenuY() * multipliers.GLOBAL_SUBMENUY
+				client.getSubMenuX(),
+				client.getSubMenuY()
 		);
 	}
 
@@ -54,9 +51,7 @@ public class Menu {
 	 */
 	public static int getWidth() {
 		final Client client = Context.client();
-		final Multipliers multipliers = Context.multipliers();
-		Context.resolve();
-		return client.getMenuWidth() * multipliers.GLOBAL_MENUWIDTH;
+		return client.getMenuWidth();
 	}
 
 	/**
@@ -64,8 +59,7 @@ public class Menu {
 	 */
 	public static int getHeight() {
 		final Client client = Context.client();
-		final Multipliers multipliers = Context.multipliers();
-		return client.getMenuHeight() * multipliers.GLOBAL_MENUHEIGHT;
+		return client.getMenuHeight();
 	}
 
 	/**
@@ -73,8 +67,7 @@ public class Menu {
 	 */
 	public static int getSubWidth() {
 		final Client client = Context.client();
-		final Multipliers multipliers = Context.multipliers();
-		return client.getSubMenuWidth() * multipliers.GLOBAL_SUBMENUWIDTH;
+		return client.getSubMenuWidth();
 	}
 
 	public static boolean isOpen() {
@@ -100,10 +93,11 @@ public class Menu {
 				return true;
 			}
 			Mouse.click(false);
-			final Timer t = new Timer(100);
-			while (t.isRunning() && !isOpen()) {
-				Time.sleep(5);
-			}
+			Time.await(new Condition() {
+				public boolean validate() {
+					return isOpen();
+				}
+			}, 100);
 			idx = getIndex(action, option);
 
 			return idx != -1 && clickIndex(idx);
@@ -128,14 +122,16 @@ public class Menu {
 		if (isCollapsed()) {
 			final Queue<MenuGroupNode> groups = new Queue<MenuGroupNode>((NodeSubQueue) Context.client().getCollapsedMenuItems());
 			int idx = 0, mainIdx = 0;
-			for (MenuGroupNode g = groups.getHead(); g != null; g = groups.getNext(), ++mainIdx) {
+			for (final MenuGroupNode g : groups) {
 				final Queue<MenuItemNode> subItems = new Queue<MenuItemNode>((NodeSubQueue) g.getItems());
 				int subIdx = 0;
-				for (MenuItemNode item = subItems.getHead(); item != null; item = subItems.getNext(), ++subIdx) {
+				for (final MenuItemNode ignored : subItems) {
 					if (idx++ == i) {
 						return subIdx == 0 ? clickMain(items, mainIdx) : clickSub(items, mainIdx, subIdx);
 					}
+					++subIdx;
 				}
+				++mainIdx;
 			}
 			return false;
 		} else {
@@ -254,9 +250,9 @@ public class Menu {
 		if (isCollapsed()) {
 			final Queue<MenuGroupNode> menu = new Queue<MenuGroupNode>((NodeSubQueue) client.getCollapsedMenuItems());
 			try {
-				for (MenuGroupNode mgn = menu.getHead(); mgn != null; mgn = menu.getNext()) {
+				for (final MenuGroupNode mgn : menu) {
 					final Queue<MenuItemNode> submenu = new Queue<MenuItemNode>((NodeSubQueue) mgn.getItems());
-					for (MenuItemNode min = submenu.getHead(); min != null; min = submenu.getNext()) {
+					for (final MenuItemNode min : submenu) {
 						if (firstAction != null) {
 							firstAction = (String) min.getAction();
 						}
@@ -270,7 +266,7 @@ public class Menu {
 		} else {
 			try {
 				final Deque<MenuItemNode> menu = new Deque<MenuItemNode>((NodeDeque) client.getMenuItems());
-				for (MenuItemNode min = menu.getHead(); min != null; min = menu.getNext()) {
+				for (final MenuItemNode min : menu) {
 					if (firstAction != null) {
 						firstAction = (String) min.getAction();
 					}
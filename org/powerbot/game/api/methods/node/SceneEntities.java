@@ -7,7 +7,7 @@ import org.powerbot.game.api.methods.Calculations;
 import org.powerbot.game.api.methods.Game;
 import org.powerbot.game.api.methods.interactive.Players;
 import org.powerbot.game.api.util.Filter;
-import org.powerbot.game.api.util.internal.Multipliers;
+import org.powerbot.game.api.util.QueryCache;
 import org.powerbot.game.api.wrappers.Locatable;
 import org.powerbot.game.api.wrappers.RegionOffset;
 import org.powerbot.game.api.wrappers.Tile;
@@ -58,17 +58,11 @@ public class SceneEntities {
 	}
 
 	public static SceneObject[] getLoaded(final int... ids) {
-		return getLoaded(new Filter<SceneObject>() {
-			public boolean accept(final SceneObject location) {
-				final int id = location.getId();
-				for (final int i : ids) {
-					if (id == i) {
-						return true;
-					}
-				}
-				return false;
+		return QueryCache.get(new QueryCache.Query<SceneObject[]>() {
+			public SceneObject[] execute() {
+				return load(getFilter(ids));
 			}
-		});
+		}, "SceneEntities.getLoaded", ids.clone()).clone();
 	}
 
 	/**
@@ -76,6 +70,14 @@ public class SceneEntities {
 	 * @return An array of all of the loaded Locations within the currently loaded region that are accepted by the provided filter.
 	 */
 	public static SceneObject[] getLoaded(final Filter<SceneObject> filter) {
+		return QueryCache.get(new QueryCache.Query<SceneObject[]>() {
+			public SceneObject[] execute() {
+				return load(filter);
+			}
+		}, "SceneEntities.getLoaded", filter).clone();
+	}
+
+	private static SceneObject[] load(final Filter<SceneObject> filter) {
 		final Set<SceneObject> objects = new LinkedHashSet<SceneObject>();
 		for (int x = 0; x < 104; x++) {
 			for (int y = 0; y < 104; y++) {
@@ -90,7 +92,23 @@ public class SceneEntities {
 	}
 
 	public static SceneObject getNearest(final int... ids) {
-		return getNearest(new Filter<SceneObject>() {
+		return QueryCache.get(new QueryCache.Query<SceneObject>() {
+			public SceneObject execute() {
+				return getNearestTo(Players.getLocal(), getFilter(ids));
+			}
+		}, "SceneEntities.getNearest", ids.clone());
+	}
+
+	public static SceneObject getNearest(final Filter<SceneObject> filter) {
+		return QueryCache.get(new QueryCache.Query<SceneObject>() {
+			public SceneObject execute() {
+				return getNearestTo(Players.getLocal(), filter);
+			}
+		}, "SceneEntities.getNearest", filter);
+	}
+
+	private static Filter<SceneObject> getFilter(final int... ids) {
+		return new Filter<SceneObject>() {
 			public boolean accept(final SceneObject location) {
 				final int id = location.getId();
 				for (final int i : ids) {
@@ -100,11 +118,7 @@ public class SceneEntities {
 				}
 				return false;
 			}
-		});
-	}
-
-	public static SceneObject getNearest(final Filter<SceneObject> filter) {
-		return getNearestTo(Players.getLocal(), filter);
+		};
 	}
 
 	public static SceneObject getNearestTo(final Locatable locatable, final Filter<SceneObject> filter) {
@@ -170,13 +184,12 @@ public class SceneEntities {
 
 	public static Set<SceneObject> getLocalAt(int x, int y, final int mask) {
 		final Client client = Context.client();
-		final Multipliers multipliers = Context.multipliers();
 		final Set<SceneObject> objects = new LinkedHashSet<SceneObject>();
 		final RSGround[][][] groundArray = getRSGroundArray(client);
 		if (groundArray == null) {
 			return objects;
 		}
-		final int plane = client.getPlane() * multipliers.GLOBAL_PLANE;
+		final int plane = client.getPlane();
 		final RSGround rsGround = groundArray[plane][x][y];
 
 		if (rsGround != null) {
@@ -6,6 +6,7 @@ import java.util.List;
 import org.powerbot.game.api.methods.Tabs;
 import org.powerbot.game.api.methods.Widgets;
 import org.powerbot.game.api.util.Filter;
+import org.powerbot.game.api.util.QueryCache;
 import org.powerbot.game.api.util.Random;
 import org.powerbot.game.api.util.Time;
 import org.powerbot.game.api.wrappers.node.Item;
@@ -68,6 +69,14 @@ public class Inventory {
 	 * @return The items matching the filter
 	 */
 	public static Item[] getItems(final boolean cached, final Filter<Item> itemFilter) {
+		return QueryCache.get(new QueryCache.Query<Item[]>() {
+			public Item[] execute() {
+				return load(cached, itemFilter);
+			}
+		}, "Inventory.getItems", cached, itemFilter).clone();
+	}
+
+	private static Item[] load(final boolean cached, final Filter<Item> itemFilter) {
 		final WidgetChild inventoryWidget = getWidget(cached);
 		if (inventoryWidget != null) {
 			final WidgetChild[] inventoryChildren = inventoryWidget.getChildren();
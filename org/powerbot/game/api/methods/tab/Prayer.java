@@ -3,6 +3,7 @@ package org.powerbot.game.api.methods.tab;
 import java.util.LinkedHashSet;
 import java.util.Set;
 
+import org.powerbot.concurrent.strategy.Condition;
 import org.powerbot.game.api.methods.Settings;
 import org.powerbot.game.api.methods.Tabs;
 import org.powerbot.game.api.methods.Widgets;
@@ -205,18 +206,22 @@ public class Prayer {
 			}
 		}
 		if (Widgets.get(WIDGET_PRAYER_ORB, 2).interact("Select quick")) {
-			for (int i = 0; i < 20 && Settings.get(1396) != 0x1; i++) {
-				Time.sleep(50);
-			}
+			Time.await(new Condition() {
+				public boolean validate() {
+					return Settings.get(1396) == 0x1;
+				}
+			}, 1000);
 			Time.sleep(200);
-			for (PrayerBook p : prayers) {
+			for (final PrayerBook p : prayers) {
 				if (p.isSetQuick()) {
 					continue;
 				}
 				if (Widgets.get(WIDGET_PRAYER, 42).getChild(p.getId()).interact("Select")) {
-					for (int i = 0; i < 10 && !p.isSetQuick(); i++) {
-						Time.sleep(50);
-					}
+					Time.await(new Condition() {
+						public boolean validate() {
+							return p.isSetQuick();
+						}
+					}, 500);
 				} else {
 					Widgets.get(WIDGET_PRAYER, 43).interact("Confirm");
 					return false;
@@ -241,9 +246,11 @@ public class Prayer {
 		}
 		if (!Tabs.getCurrent().equals(Tabs.PRAYER)) {
 			Tabs.PRAYER.open(false);
-			for (int i = 0; i < 20 && !Tabs.getCurrent().equals(Tabs.PRAYER); i++) {
-				Time.sleep(50);
-			}
+			Time.await(new Condition() {
+				public boolean validate() {
+					return Tabs.getCurrent().equals(Tabs.PRAYER);
+				}
+			}, 1000);
 		}
 		return Widgets.get(WIDGET_PRAYER, 8).getChild(prayer.getId()).interact(active ? "Activate" : "Deactivate");
 	}
@@ -252,11 +259,13 @@ public class Prayer {
 		if (getActive().length == 0) {
 			return true;
 		}
-		for (PrayerBook p : getActive()) {
+		for (final PrayerBook p : getActive()) {
 			if (togglePrayer(p, false)) {
-				for (int i = 0; i < 10 && p.isActive(); i++) {
-					Time.sleep(50);
-				}
+				Time.await(new Condition() {
+					public boolean validate() {
+						return !p.isActive();
+					}
+				}, 500);
 			}
 		}
 		return getActive().length == 0;
@@ -5,6 +5,7 @@ import java.awt.Rectangle;
 import java.util.ArrayList;
 import java.util.Arrays;
 
+import org.powerbot.concurrent.strategy.Condition;
 import org.powerbot.game.api.methods.Calculations;
 import org.powerbot.game.api.methods.Settings;
 import org.powerbot.game.api.methods.Walking;
@@ -195,9 +196,12 @@ public class Bank {
 				interacted = bank.interact("Bank", "Counter");
 			}
 			final Widget bankpin = Widgets.get(WIDGET_BANKPIN);
-			final Timer t = new Timer(4000);
-			while (t.isRunning() && interacted && !isOpen() && (bankpin == null || !bankpin.validate())) {
-				Time.sleep(10);
+			if (interacted) {
+				Time.await(new Condition() {
+					public boolean validate() {
+						return isOpen() || (bankpin != null && bankpin.validate());
+					}
+				}, 4000);
 			}
 		}
 		return isOpen();
@@ -268,9 +272,11 @@ public class Bank {
 			Keyboard.sendText(String.valueOf(amount), true);
 		}
 		t.setEndIn(2000);
-		while (t.isRunning() && Inventory.getCount(true) == invCount) {
-			Time.sleep(5);
-		}
+		t.await(new Condition() {
+			public boolean validate() {
+				return Inventory.getCount(true) != invCount;
+			}
+		});
 		return Inventory.getCount(true) != invCount;
 	}
 
@@ -299,10 +305,11 @@ public class Bank {
 			Time.sleep(200, 800);
 			Keyboard.sendText(String.valueOf(amount), true);
 		}
-		final Timer t = new Timer(2000);
-		while (t.isRunning() && Inventory.getCount(true) == invCount) {
-			Time.sleep(5);
-		}
+		Time.await(new Condition() {
+			public boolean validate() {
+				return Inventory.getCount(true) != invCount;
+			}
+		}, 2000);
 		return Inventory.getCount(true) != invCount;
 	}
 
@@ -322,10 +329,11 @@ public class Bank {
 		final WidgetChild child = Widgets.get(WIDGET_BANK, WIDGET_BUTTON_DEPOSIT_INVENTORY);
 		final int invCount = Inventory.getCount();
 		if (child != null && child.click(true)) {
-			final Timer t = new Timer(2000);
-			while (t.isRunning() && Inventory.getCount() == invCount) {
-				Time.sleep(5);
-			}
+			Time.await(new Condition() {
+				public boolean validate() {
+					return Inventory.getCount() != invCount;
+				}
+			}, 2000);
 		}
 		return invCount != Inventory.getCount();
 	}
@@ -442,10 +450,11 @@ public class Bank {
 		}
 		final WidgetChild child = Widgets.get(WIDGET_BANK, WIDGET_BUTTON_WITHDRAW_NOTED);
 		if (isWithdrawNotedEnabled() != noted && child != null && child.click(true)) {
-			final Timer t = new Timer(500);
-			while (t.isRunning() && isWithdrawNotedEnabled() != noted) {
-				Time.sleep(5);
-			}
+			Time.await(new Condition() {
+				public boolean validate() {
+					return isWithdrawNotedEnabled() == noted;
+				}
+			}, 500);
 		}
 		return isWithdrawNotedEnabled() == noted;
 	}
@@ -460,10 +469,11 @@ public class Bank {
 		}
 		final WidgetChild child = Widgets.get(WIDGET_BANK, WIDGET_BUTTON_SEARCH);
 		if (isSearchEnabled() != enable && child != null && child.click(true)) {
-			final Timer t = new Timer(500);
-			while (t.isRunning() && isSearchEnabled() != enable) {
-				Time.sleep(5);
-			}
+			Time.await(new Condition() {
+				public boolean validate() {
+					return isSearchEnabled() == enable;
+				}
+			}, 500);
 		}
 		return isSearchEnabled() == enable;
 	}
@@ -552,11 +562,11 @@ public class Bank {
 	}
 
 	protected static boolean waitForInputWidget(final boolean open) {
-		final Timer t = new Timer(3000);
-		while (t.isRunning() && isInputWidgetOpen() != open) {
-			Time.sleep(5);
-		}
-		return isInputWidgetOpen() == open;
+		return Time.await(new Condition() {
+			public boolean validate() {
+				return isInputWidgetOpen() == open;
+			}
+		}, 3000);
 	}
 
 	private static boolean isInputWidgetOpen() {
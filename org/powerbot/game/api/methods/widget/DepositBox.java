@@ -3,6 +3,7 @@ package org.powerbot.game.api.methods.widget;
 import java.util.ArrayList;
 import java.util.Arrays;
 
+import org.powerbot.concurrent.strategy.Condition;
 import org.powerbot.game.api.methods.Calculations;
 import org.powerbot.game.api.methods.Walking;
 import org.powerbot.game.api.methods.Widgets;
@@ -11,7 +12,6 @@ import org.powerbot.game.api.methods.interactive.Players;
 import org.powerbot.game.api.methods.node.SceneEntities;
 import org.powerbot.game.api.util.Filter;
 import org.powerbot.game.api.util.Time;
-import org.powerbot.game.api.util.Timer;
 import org.powerbot.game.api.wrappers.node.Item;
 import org.powerbot.game.api.wrappers.node.SceneObject;
 import org.powerbot.game.api.wrappers.widget.Widget;
@@ -56,10 +56,11 @@ public class DepositBox {
 			Time.sleep(200, 400);
 		}
 		if (depositBox.isOnScreen() && depositBox.interact("Deposit")) {
-			final Timer t = new Timer(4000);
-			while (t.isRunning() && !isOpen()) {
-				Time.sleep(10);
-			}
+			Time.await(new Condition() {
+				public boolean validate() {
+					return isOpen();
+				}
+			}, 4000);
 		}
 		return isOpen();
 	}
@@ -104,10 +105,11 @@ public class DepositBox {
 			Time.sleep(200, 800);
 			Keyboard.sendText(String.valueOf(amount), true);
 		}
-		final Timer t = new Timer(2000);
-		while (t.isRunning() && getItemCount(true) == invCount) {
-			Time.sleep(5);
-		}
+		Time.await(new Condition() {
+			public boolean validate() {
+				return getItemCount(true) != invCount;
+			}
+		}, 2000);
 		return getItemCount(true) != invCount;
 	}
 
@@ -127,10 +129,11 @@ public class DepositBox {
 		final WidgetChild child = Widgets.get(WIDGET_DEPOSIT_BOX, WIDGET_BUTTON_DEPOSIT_INVENTORY);
 		final int invCount = getItems().length;
 		if (child != null && child.click(true)) {
-			final Timer t = new Timer(2000);
-			while (t.isRunning() && getItems().length == invCount) {
-				Time.sleep(5);
-			}
+			Time.await(new Condition() {
+				public boolean validate() {
+					return getItems().length != invCount;
+				}
+			}, 2000);
 		}
 		return invCount != getItems().length;
 	}
@@ -1,13 +1,10 @@
 package org.powerbot.game.api.methods.widget;
 
-import java.util.HashMap;
-import java.util.Map;
-
 import org.powerbot.game.api.methods.Tabs;
 import org.powerbot.game.api.methods.Widgets;
-import org.powerbot.game.api.util.internal.Multipliers;
 import org.powerbot.game.api.wrappers.widget.Widget;
 import org.powerbot.game.api.wrappers.widget.WidgetChild;
+import org.powerbot.game.bot.Attribute;
 import org.powerbot.game.bot.Context;
 import org.powerbot.game.client.Client;
 
@@ -15,11 +12,12 @@ import org.powerbot.game.client.Client;
  * @author Timer
  */
 public class WidgetComposite {
-	private static final Map<ThreadGroup, Record> cache = new HashMap<ThreadGroup, Record>();
-
-	public static void clear(final ThreadGroup threadGroup) {
-		cache.remove(threadGroup);
-	}
+	private static final Attribute<Record> cache = new Attribute<Record>() {
+		@Override
+		protected Record initialValue() {
+			return new Record();
+		}
+	};
 
 	public static WidgetChild getCompass() {
 		final Record record = get();
@@ -30,9 +28,9 @@ public class WidgetComposite {
 		final Widget widget = Widgets.get(record.index_widget);
 		if (widget != null) {
 			if (record.index_compass == -1) {
-				for (final WidgetChild widgetChild : widget.getChildren()) {
+				for (final WidgetChild widgetChild : Widgets.findByAction("Face North")) {
 					final String[] actions = widgetChild.getActions();
-					if (actions != null && actions.length == 1 && actions[0].equalsIgnoreCase("Face North")) {
+					if (widgetChild.getWidget().equals(widget) && actions.length == 1) {
 						record.index_compass = widgetChild.getIndex();
 						break;
 					}
@@ -54,8 +52,8 @@ public class WidgetComposite {
 		final Widget widget = Widgets.get(record.index_widget);
 		if (widget != null) {
 			if (record.index_map == -1) {
-				for (final WidgetChild widgetChild : widget.getChildren()) {
-					if (widgetChild.getSpecialType() == 1338) {
+				for (final WidgetChild widgetChild : Widgets.findBySpecialType(1338)) {
+					if (widgetChild.getWidget().equals(widget)) {
 						record.index_map = widgetChild.getIndex();
 						break;
 					}
@@ -81,9 +79,9 @@ public class WidgetComposite {
 				return null;
 			}
 			if (record.indices_tabs[index] == -1) {
-				for (final WidgetChild widgetChild : widget.getChildren()) {
+				for (final WidgetChild widgetChild : Widgets.findByAction(tab.getDescription())) {
 					final String[] actions = widgetChild.getActions();
-					if (actions != null && actions.length > 0 && actions[0].equalsIgnoreCase(tab.getDescription())) {
+					if (widgetChild.getWidget().equals(widget) && actions[0] != null && actions[0].equalsIgnoreCase(tab.getDescription())) {
 						record.indices_tabs[index] = widgetChild.getIndex();
 						break;
 					}
@@ -97,7 +95,7 @@ public class WidgetComposite {
 	}
 
 	private synchronized static void update(final Record record) {
-		final int master_index = record.client.getGUIRSInterfaceIndex() * record.multipliers.GLOBAL_GUIINTERFACEINDEX;
+		final int master_index = record.client.getGUIRSInterfaceIndex();
 		if (master_index != record.index_widget) {
 			record.index_map = -1;
 			record.index_compass = -1;
@@ -108,25 +106,17 @@ public class WidgetComposite {
 		}
 	}
 
-	private synchronized static Record get() {
-		final ThreadGroup threadGroup = Thread.currentThread().getThreadGroup();
-		Record record = cache.get(threadGroup);
-		if (record == null) {
-			record = new Record();
-			cache.put(threadGroup, record);
-		}
-		return record;
+	private static Record get() {
+		return cache.get();
 	}
 
 	private static final class Record {
 		private int index_widget, index_map, index_compass;
 		private final int[] indices_tabs = new int[17];
 		private final Client client;
-		private final Multipliers multipliers;
 
 		private Record() {
 			client = Context.client();
-			multipliers = Context.multipliers();
 			index_widget = -1;
 			index_map = -1;
 			index_compass = -1;
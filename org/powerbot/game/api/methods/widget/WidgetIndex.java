@@ -0,0 +1,299 @@
+package org.powerbot.game.api.methods.widget;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+import org.powerbot.game.bot.Attribute;
+import org.powerbot.game.bot.Context;
+import org.powerbot.game.client.Client;
+import org.powerbot.game.client.RSInterface;
+import org.powerbot.game.client.RSInterfaceBase;
+
+/**
+ * A catalogue of the children of every valid widget, keyed by their actions, special types, text and component ids.
+ * Children are identified by their packed id, <code>widget &lt;&lt; 16 | child</code>.
+ * The index is brought up to date at most once per client tick, upon the first lookup: widgets that became valid,
+ * invalid or were rebuilt by the client are re-indexed, and the children of the others are re-read and re-keyed only
+ * where their actions, special type, text or component id changed in place (as those of inventory slots do).
+ * Keys of text and actions are compared ignoring case.
+ *
+ * @author Timer
+ */
+public class WidgetIndex {
+	private static final Attribute<WidgetIndex> indices = new Attribute<WidgetIndex>() {
+		@Override
+		protected WidgetIndex initialValue() {
+			return new WidgetIndex();
+		}
+	};
+
+	private final Map<String, Set<Integer>> actions;
+	private final Map<Integer, Set<Integer>> specialTypes;
+	private final Map<String, Set<Integer>> texts;
+	private final Map<Integer, Set<Integer>> componentIds;
+	private Entry[] entries;
+	private int loopCycle;
+
+	private WidgetIndex() {
+		this.actions = new HashMap<String, Set<Integer>>();
+		this.specialTypes = new HashMap<Integer, Set<Integer>>();
+		this.texts = new HashMap<String, Set<Integer>>();
+		this.componentIds = new HashMap<Integer, Set<Integer>>();
+		this.entries = new Entry[0];
+		this.loopCycle = -1;
+	}
+
+	/**
+	 * @param action The action to look up.
+	 * @return The packed ids of the widget children offering the action.
+	 */
+	public static int[] getByAction(final String action) {
+		final WidgetIndex index = indices.get();
+		synchronized (index) {
+			index.update();
+			return toArray(index.actions.get(action.toLowerCase()));
+		}
+	}
+
+	/**
+	 * @param specialType The special type to look up.
+	 * @return The packed ids of the widget children of the special type.
+	 */
+	public static int[] getBySpecialType(final int specialType) {
+		final WidgetIndex index = indices.get();
+		synchronized (index) {
+			index.update();
+			return toArray(index.specialTypes.get(specialType));
+		}
+	}
+
+	/**
+	 * @param text The text to look up.
+	 * @return The packed ids of the widget children displaying exactly the text.
+	 */
+	public static int[] getByText(final String text) {
+		final WidgetIndex index = indices.get();
+		synchronized (index) {
+			index.update();
+			return toArray(index.texts.get(text.toLowerCase()));
+		}
+	}
+
+	/**
+	 * @param componentId The component id to look up, such as the id of an item held by an inventory slot.
+	 * @return The packed ids of the widget children with the component id.
+	 */
+	public static int[] getByComponentId(final int componentId) {
+		final WidgetIndex index = indices.get();
+		synchronized (index) {
+			index.update();
+			return toArray(index.componentIds.get(componentId));
+		}
+	}
+
+	private void update() {
+		final Client client = Context.client();
+		final int loopCycle = client != null ? client.getLoopCycle() : -1;
+		if (loopCycle == this.loopCycle && loopCycle != -1) {
+			return;
+		}
+		this.loopCycle = loopCycle;
+		final Object[] cache = client != null ? client.getRSInterfaceCache() : null;
+		final boolean[] valid = client != null ? client.getValidRSInterfaceArray() : null;
+		final int length = cache != null ? cache.length : 0;
+		if (entries.length < length) {
+			entries = Arrays.copyOf(entries, length);
+		}
+		for (int widget = 0; widget < entries.length; widget++) {
+			RSInterface[] components = null;
+			if (widget < length && cache[widget] != null && valid != null && widget < valid.length && valid[widget]) {
+				components = (RSInterface[]) ((RSInterfaceBase) cache[widget]).getComponents();
+			}
+			Entry entry = entries[widget];
+			if (entry != null && entry.components != components) {
+				entry.remove(this);
+				entries[widget] = entry = null;
+			}
+			if (components == null) {
+				continue;
+			}
+			if (entry == null) {
+				entries[widget] = entry = new Entry(widget, components);
+			}
+			entry.refresh(this);
+		}
+	}
+
+	private static <K> void put(final Map<K, Set<Integer>> map, final K key, final int id) {
+		Set<Integer> ids = map.get(key);
+		if (ids == null) {
+			ids = new TreeSet<Integer>();
+			map.put(key, ids);
+		}
+		ids.add(id);
+	}
+
+	private static <K> void remove(final Map<K, Set<Integer>> map, final K key, final int id) {
+		final Set<Integer> ids = map.get(key);
+		if (ids != null) {
+			ids.remove(id);
+			if (ids.isEmpty()) {
+				map.remove(key);
+			}
+		}
+	}
+
+	private static int[] toArray(final Set<Integer> ids) {
+		if (ids == null) {
+			return new int[0];
+		}
+		final int[] array = new int[ids.size()];
+		int i = 0;
+		for (final int id : ids) {
+			array[i++] = id;
+		}
+		return array;
+	}
+
+	/**
+	 * The children of a widget as last indexed, retained so changed keys can be withdrawn.
+	 */
+	private static final class Entry {
+		private final int widget;
+		private final RSInterface[] components;
+		private final Child[] children;
+
+		private Entry(final int widget, final RSInterface[] components) {
+			this.widget = widget;
+			this.components = components;
+			this.children = new Child[components.length];
+		}
+
+		/**
+		 * Re-reads the children of this widget, re-keying those whose values changed since last indexed.
+		 *
+		 * @param index The index to key the children within.
+		 */
+		private void refresh(final WidgetIndex index) {
+			for (int i = 0; i < components.length; i++) {
+				final RSInterface component = components[i];
+				Child child = children[i];
+				if (component == null) {
+					if (child != null) {
+						child.remove(index);
+						children[i] = null;
+					}
+					continue;
+				}
+				if (child == null) {
+					children[i] = child = new Child(widget << 0x10 | i);
+				}
+				child.refresh(index, component);
+			}
+		}
+
+		private void remove(final WidgetIndex index) {
+			for (final Child child : children) {
+				if (child != null) {
+					child.remove(index);
+				}
+			}
+		}
+	}
+
+	/**
+	 * The values a widget child is keyed by, as last indexed.
+	 */
+	private static final class Child {
+		private final int id;
+		private boolean indexed;
+		private String[] actions;
+		private int specialType;
+		private String text;
+		private int componentId;
+
+		private Child(final int id) {
+			this.id = id;
+			this.indexed = false;
+		}
+
+		private void refresh(final WidgetIndex index, final RSInterface component) {
+			final String[] actions = (String[]) component.getActions();
+			final int specialType = component.getSpecialType();
+			final String text = (String) component.getText();
+			final int componentId = component.getComponentID();
+			if (!indexed) {
+				indexed = true;
+				putActions(index, actions);
+				put(index.specialTypes, specialType, id);
+				putText(index, text);
+				put(index.componentIds, componentId, id);
+			} else {
+				if (!Arrays.equals(actions, this.actions)) {
+					removeActions(index);
+					putActions(index, actions);
+				}
+				if (specialType != this.specialType) {
+					WidgetIndex.remove(index.specialTypes, this.specialType, id);
+					put(index.specialTypes, specialType, id);
+				}
+				if (text == null ? this.text != null : !text.equals(this.text)) {
+					removeText(index);
+					putText(index, text);
+				}
+				if (componentId != this.componentId) {
+					WidgetIndex.remove(index.componentIds, this.componentId, id);
+					put(index.componentIds, componentId, id);
+				}
+			}
+			this.specialType = specialType;
+			this.componentId = componentId;
+		}
+
+		private void putActions(final WidgetIndex index, final String[] actions) {
+			this.actions = actions != null ? actions.clone() : null;
+			if (actions != null) {
+				for (final String action : actions) {
+					if (action != null) {
+						put(index.actions, action.toLowerCase(), id);
+					}
+				}
+			}
+		}
+
+		private void removeActions(final WidgetIndex index) {
+			if (actions != null) {
+				for (final String action : actions) {
+					if (action != null) {
+						WidgetIndex.remove(index.actions, action.toLowerCase(), id);
+					}
+				}
+			}
+		}
+
+		private void putText(final WidgetIndex index, final String text) {
+			this.text = text;
+			if (text != null) {
+				put(index.texts, text.toLowerCase(), id);
+			}
+		}
+
+		private void removeText(final WidgetIndex index) {
+			if (text != null) {
+				WidgetIndex.remove(index.texts, text.toLowerCase(), id);
+			}
+		}
+
+		private void remove(final WidgetIndex index) {
+			if (indexed) {
+				removeActions(index);
+				WidgetIndex.remove(index.specialTypes, specialType, id);
+				removeText(index);
+				WidgetIndex.remove(index.componentIds, componentId, id);
+			}
+		}
+	}
+}
@@ -0,0 +1,135 @@
+package org.powerbot.game.api.util;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.powerbot.game.bot.Attribute;
+import org.powerbot.game.bot.Context;
+import org.powerbot.game.client.Client;
+import org.powerbot.util.Configuration;
+
+/**
+ * A memo of query results valid for the current client cycle.
+ * Identical queries made within a cycle, whether by the script, its strategies or its paint, share a single traversal.
+ * Queries are identified by a name and their arguments; filters are compared by identity.
+ *
+ * @author Timer
+ */
+public class QueryCache {
+	/**
+	 * A query whose result may be shared within a client cycle.
+	 *
+	 * @param <T> The type of the result.
+	 */
+	public static interface Query<T> {
+		public T execute();
+	}
+
+	private static final Attribute<QueryCache> caches = new Attribute<QueryCache>() {
+		@Override
+		protected QueryCache initialValue() {
+			return new QueryCache();
+		}
+	};
+
+	private final Map<Key, Object> results;
+	private int loopCycle;
+	private long hits, misses;
+
+	private QueryCache() {
+		this.results = new HashMap<Key, Object>();
+		this.loopCycle = -1;
+		this.hits = 0;
+		this.misses = 0;
+	}
+
+	/**
+	 * Returns the result of the query made earlier in the current client cycle with the same arguments, or executes it.
+	 *
+	 * @param query     The <code>Query</code> to execute if not yet made within the current cycle.
+	 * @param name      The name of the query.
+	 * @param arguments The arguments that, along with the name, identify the query.
+	 * @param <T>       The type of the result.
+	 * @return The result of the query; shared by all callers within the cycle.
+	 */
+	@SuppressWarnings("unchecked")
+	public static <T> T get(final Query<T> query, final String name, final Object... arguments) {
+		if (!Configuration.QUERYCACHE) {
+			return query.execute();
+		}
+		final Context context = Context.get();
+		final Client client = context.getClient();
+		if (client == null) {
+			return query.execute();
+		}
+		final int loopCycle = client.getLoopCycle();
+		final QueryCache cache = caches.get(context);
+		final Key key = new Key(name, arguments);
+		synchronized (cache) {
+			if (cache.loopCycle != loopCycle) {
+				cache.results.clear();
+				cache.loopCycle = loopCycle;
+			} else if (cache.results.containsKey(key)) {
+				++cache.hits;
+				return (T) cache.results.get(key);
+			}
+			++cache.misses;
+		}
+		final T result = query.execute();
+		synchronized (cache) {
+			if (cache.loopCycle == loopCycle) {
+				cache.results.put(key, result);
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * Discards the results memoized for this bot, such as after an action expected to change them.
+	 */
+	public static void clear() {
+		final QueryCache cache = caches.get();
+		synchronized (cache) {
+			cache.results.clear();
+			cache.loopCycle = -1;
+		}
+	}
+
+	/**
+	 * @return The ratio of queries answered from the cache for this bot, between <code>0</code> and <code>1</code>.
+	 */
+	public static double getHitRate() {
+		final QueryCache cache = caches.get();
+		synchronized (cache) {
+			final long total = cache.hits + cache.misses;
+			return total == 0 ? 0 : (double) cache.hits / total;
+		}
+	}
+
+	private static final class Key {
+		private final String name;
+		private final Object[] arguments;
+		private final int hash;
+
+		private Key(final String name, final Object[] arguments) {
+			this.name = name;
+			this.arguments = arguments;
+			this.hash = 31 * name.hashCode() + Arrays.deepHashCode(arguments);
+		}
+
+		@Override
+		public int hashCode() {
+			return hash;
+		}
+
+		@Override
+		public boolean equals(final Object o) {
+			if (!(o instanceof Key)) {
+				return false;
+			}
+			final Key key = (Key) o;
+			return hash == key.hash && name.equals(key.name) && Arrays.deepEquals(arguments, key.arguments);
+		}
+	}
+}
@@ -0,0 +1,392 @@
+package org.powerbot.game.api.util;
+
+import org.powerbot.game.api.methods.Calculations;
+import org.powerbot.game.api.methods.Game;
+import org.powerbot.game.api.methods.Settings;
+import org.powerbot.game.api.methods.interactive.NPCs;
+import org.powerbot.game.api.methods.interactive.Players;
+import org.powerbot.game.api.methods.node.GroundItems;
+import org.powerbot.game.api.methods.widget.Camera;
+import org.powerbot.game.api.wrappers.Tile;
+import org.powerbot.game.api.wrappers.interactive.Character;
+import org.powerbot.game.api.wrappers.interactive.NPC;
+import org.powerbot.game.api.wrappers.interactive.Player;
+import org.powerbot.game.api.wrappers.node.GroundItem;
+import org.powerbot.game.bot.Context;
+import org.powerbot.game.bot.handler.TickMonitor;
+
+/**
+ * A read-only capture of game state taken at a single client tick.
+ * When enabled for a bot, a snapshot is captured from the client thread once per tick and shared by the script,
+ * its paint listeners and the random handler, so every decision made within a tick observes the same frame.
+ * The ids, animations, health and locations of characters and ground items are copied into arrays indexed alike their wrappers,
+ * with locations packed as <code>x | y &lt;&lt; 14 | plane &lt;&lt; 28</code>; the wrappers themselves read the live client
+ * and are retained only to interact with. Ground items are captured within <code>GROUND_ITEM_RANGE</code> of the local player.
+ *
+ * @author Timer
+ */
+public class Snapshot {
+	/**
+	 * The distance in tiles from the local player within which ground items are captured.
+	 */
+	public static final int GROUND_ITEM_RANGE = 16;
+
+	private final long frame;
+	private final int loopCycle;
+	private final int baseX, baseY, plane;
+	private final Player local;
+	private final int localTile, localAnimation, localHealth;
+	private final Player[] players;
+	private final int[] playerTiles, playerAnimations, playerHealth;
+	private final NPC[] npcs;
+	private final int[] npcIds, npcTiles, npcAnimations, npcHealth;
+	private final GroundItem[] groundItems;
+	private final int[] groundItemIds, groundItemStacks, groundItemTiles;
+	private final int[] settings;
+	private final int cameraX, cameraY, cameraZ, cameraYaw, cameraPitch;
+	private final Calculations.Toolkit toolkit;
+	private final Calculations.Viewport viewport;
+
+	private Snapshot(final Context context) {
+		this.frame = context.getTickMonitor().getFrame();
+		this.loopCycle = Game.getLoopCycle();
+		this.baseX = Game.getBaseX();
+		this.baseY = Game.getBaseY();
+		this.plane = Game.getPlane();
+		this.local = Players.getLocal();
+		this.localTile = pack(local.getLocation());
+		this.localAnimation = local.getAnimation();
+		this.localHealth = local.getHpPercent();
+		this.players = Players.getLoaded();
+		this.playerTiles = new int[players.length];
+		this.playerAnimations = new int[players.length];
+		this.playerHealth = new int[players.length];
+		for (int i = 0; i < players.length; i++) {
+			playerTiles[i] = pack(players[i].getLocation());
+			playerAnimations[i] = players[i].getAnimation();
+			playerHealth[i] = players[i].getHpPercent();
+		}
+		this.npcs = NPCs.getLoaded();
+		this.npcIds = new int[npcs.length];
+		this.npcTiles = new int[npcs.length];
+		this.npcAnimations = new int[npcs.length];
+		this.npcHealth = new int[npcs.length];
+		for (int i = 0; i < npcs.length; i++) {
+			npcIds[i] = npcs[i].getId();
+			npcTiles[i] = pack(npcs[i].getLocation());
+			npcAnimations[i] = npcs[i].getAnimation();
+			npcHealth[i] = npcs[i].getHpPercent();
+		}
+		this.groundItems = GroundItems.getLoaded(GROUND_ITEM_RANGE, GroundItems.ALL_FILTER);
+		this.groundItemIds = new int[groundItems.length];
+		this.groundItemStacks = new int[groundItems.length];
+		this.groundItemTiles = new int[groundItems.length];
+		for (int i = 0; i < groundItems.length; i++) {
+			groundItemIds[i] = groundItems[i].getId();
+			groundItemStacks[i] = groundItems[i].getGroundItem().getStackSize();
+			groundItemTiles[i] = pack(groundItems[i].getLocation());
+		}
+		this.settings = Settings.get();
+		this.cameraX = Camera.getX();
+		this.cameraY = Camera.getY();
+		this.cameraZ = Camera.getZ();
+		this.cameraYaw = Camera.getYaw();
+		this.cameraPitch = Camera.getPitch();
+		this.toolkit = copy(context.getToolkit());
+		this.viewport = copy(context.getViewport());
+	}
+
+	/**
+	 * Captures the current state of the game.
+	 *
+	 * @return A <code>Snapshot</code> of the current tick; otherwise <code>null</code> if not logged in.
+	 */
+	public static Snapshot capture() {
+		if (!Game.isLoggedIn()) {
+			return null;
+		}
+		return new Snapshot(Context.get());
+	}
+
+	/**
+	 * @return The <code>Snapshot</code> of the latest tick; otherwise <code>null</code> if snapshots are disabled or not logged in.
+	 */
+	public static Snapshot get() {
+		return Context.get().getTickMonitor().getSnapshot();
+	}
+
+	/**
+	 * @param enabled <tt>true</tt> to capture a snapshot once per tick for this bot; otherwise <tt>false</tt>.
+	 */
+	public static void setEnabled(final boolean enabled) {
+		Context.get().getTickMonitor().setSnapshots(enabled);
+	}
+
+	/**
+	 * @return <tt>true</tt> if snapshots are captured for this bot; otherwise <tt>false</tt>.
+	 */
+	public static boolean isEnabled() {
+		return Context.get().getTickMonitor().isSnapshots();
+	}
+
+	/**
+	 * @return The client frame this snapshot was captured during.
+	 * @see TickMonitor#getFrame()
+	 */
+	public long getFrame() {
+		return frame;
+	}
+
+	public int getLoopCycle() {
+		return loopCycle;
+	}
+
+	public int getBaseX() {
+		return baseX;
+	}
+
+	public int getBaseY() {
+		return baseY;
+	}
+
+	public int getPlane() {
+		return plane;
+	}
+
+	public Player getLocal() {
+		return local;
+	}
+
+	/**
+	 * @return The location of the local player when captured.
+	 */
+	public Tile getLocation() {
+		return unpack(localTile);
+	}
+
+	/**
+	 * @return The animation of the local player when captured.
+	 */
+	public int getAnimation() {
+		return localAnimation;
+	}
+
+	/**
+	 * @return The health percentage of the local player when captured.
+	 */
+	public int getHpPercent() {
+		return localHealth;
+	}
+
+	public Player[] getPlayers() {
+		return players.clone();
+	}
+
+	/**
+	 * @param index The index of the player within <code>getPlayers()</code>.
+	 * @return The location of the player when captured.
+	 */
+	public Tile getPlayerLocation(final int index) {
+		return unpack(playerTiles[index]);
+	}
+
+	/**
+	 * @param index The index of the player within <code>getPlayers()</code>.
+	 * @return The animation of the player when captured.
+	 */
+	public int getPlayerAnimation(final int index) {
+		return playerAnimations[index];
+	}
+
+	/**
+	 * @param index The index of the player within <code>getPlayers()</code>.
+	 * @return The health percentage of the player when captured.
+	 */
+	public int getPlayerHpPercent(final int index) {
+		return playerHealth[index];
+	}
+
+	/**
+	 * @param filter The filtering <code>Filter</code> to accept the players through.
+	 * @return The nearest captured player accepted by the filter; otherwise <code>null</code>.
+	 */
+	public Player getNearestPlayer(final Filter<Player> filter) {
+		final int index = nearest(players, playerTiles, filter);
+		return index != -1 ? players[index] : null;
+	}
+
+	public NPC[] getNpcs() {
+		return npcs.clone();
+	}
+
+	/**
+	 * @param index The index of the Npc within <code>getNpcs()</code>.
+	 * @return The location of the Npc when captured.
+	 */
+	public Tile getNpcLocation(final int index) {
+		return unpack(npcTiles[index]);
+	}
+
+	/**
+	 * @param index The index of the Npc within <code>getNpcs()</code>.
+	 * @return The id of the Npc when captured.
+	 */
+	public int getNpcId(final int index) {
+		return npcIds[index];
+	}
+
+	/**
+	 * @param index The index of the Npc within <code>getNpcs()</code>.
+	 * @return The animation of the Npc when captured.
+	 */
+	public int getNpcAnimation(final int index) {
+		return npcAnimations[index];
+	}
+
+	/**
+	 * @param index The index of the Npc within <code>getNpcs()</code>.
+	 * @return The health percentage of the Npc when captured.
+	 */
+	public int getNpcHpPercent(final int index) {
+		return npcHealth[index];
+	}
+
+	/**
+	 * @param filter The filtering <code>Filter</code> to accept the Npcs through.
+	 * @return The nearest captured Npc accepted by the filter; otherwise <code>null</code>.
+	 */
+	public NPC getNearestNpc(final Filter<NPC> filter) {
+		final int index = nearest(npcs, npcTiles, filter);
+		return index != -1 ? npcs[index] : null;
+	}
+
+	/**
+	 * @return The ground items within <code>GROUND_ITEM_RANGE</code> of the local player when captured.
+	 */
+	public GroundItem[] getGroundItems() {
+		return groundItems.clone();
+	}
+
+	/**
+	 * @param index The index of the ground item within <code>getGroundItems()</code>.
+	 * @return The id of the ground item when captured.
+	 */
+	public int getGroundItemId(final int index) {
+		return groundItemIds[index];
+	}
+
+	/**
+	 * @param index The index of the ground item within <code>getGroundItems()</code>.
+	 * @return The stack size of the ground item when captured.
+	 */
+	public int getGroundItemStackSize(final int index) {
+		return groundItemStacks[index];
+	}
+
+	/**
+	 * @param index The index of the ground item within <code>getGroundItems()</code>.
+	 * @return The location of the ground item when captured.
+	 */
+	public Tile getGroundItemLocation(final int index) {
+		return unpack(groundItemTiles[index]);
+	}
+
+	/**
+	 * @return A copy of the settings when captured.
+	 */
+	public int[] getSettings() {
+		return settings.clone();
+	}
+
+	/**
+	 * @param index The position of the setting.
+	 * @return The value of the setting when captured; otherwise <code>-1</code>.
+	 */
+	public int getSetting(final int index) {
+		return index >= 0 && index < settings.length ? settings[index] : -1;
+	}
+
+	public int getCameraX() {
+		return cameraX;
+	}
+
+	public int getCameraY() {
+		return cameraY;
+	}
+
+	public int getCameraZ() {
+		return cameraZ;
+	}
+
+	public int getCameraYaw() {
+		return cameraYaw;
+	}
+
+	public int getCameraPitch() {
+		return cameraPitch;
+	}
+
+	/**
+	 * @return A copy of the toolkit when captured.
+	 */
+	public Calculations.Toolkit getToolkit() {
+		return copy(toolkit);
+	}
+
+	/**
+	 * @return A copy of the viewport matrix when captured.
+	 */
+	public Calculations.Viewport getViewport() {
+		return copy(viewport);
+	}
+
+	private <T extends Character> int nearest(final T[] characters, final int[] tiles, final Filter<T> filter) {
+		final int x = localTile & 0x3fff, y = localTile >> 14 & 0x3fff;
+		int nearest = -1;
+		double distance = Double.MAX_VALUE;
+		for (int i = 0; i < characters.length; i++) {
+			if (filter.accept(characters[i])) {
+				final double dist = Calculations.distance(x, y, tiles[i] & 0x3fff, tiles[i] >> 14 & 0x3fff);
+				if (dist < distance) {
+					distance = dist;
+					nearest = i;
+				}
+			}
+		}
+		return nearest;
+	}
+
+	private static int pack(final Tile tile) {
+		return tile.getX() | tile.getY() << 14 | tile.getPlane() << 28;
+	}
+
+	private static Tile unpack(final int tile) {
+		return new Tile(tile & 0x3fff, tile >> 14 & 0x3fff, tile >>> 28);
+	}
+
+	private static Calculations.Toolkit copy(final Calculations.Toolkit toolkit) {
+		final Calculations.Toolkit copy = new Calculations.Toolkit();
+		copy.absoluteX = toolkit.absoluteX;
+		copy.absoluteY = toolkit.absoluteY;
+		copy.xMultiplier = toolkit.xMultiplier;
+		copy.yMultiplier = toolkit.yMultiplier;
+		return copy;
+	}
+
+	private static Calculations.Viewport copy(final Calculations.Viewport viewport) {
+		final Calculations.Viewport copy = new Calculations.Viewport();
+		copy.xOff = viewport.xOff;
+		copy.xX = viewport.xX;
+		copy.xY = viewport.xY;
+		copy.xZ = viewport.xZ;
+		copy.yOff = viewport.yOff;
+		copy.yX = viewport.yX;
+		copy.yY = viewport.yY;
+		copy.yZ = viewport.yZ;
+		copy.zOff = viewport.zOff;
+		copy.zX = viewport.zX;
+		copy.zY = viewport.zY;
+		copy.zZ = viewport.zZ;
+		return copy;
+	}
+}
@@ -1,5 +1,11 @@
 package org.powerbot.game.api.util;
 
+import org.powerbot.concurrent.CancellationToken;
+import org.powerbot.concurrent.SharedTaskPool;
+import org.powerbot.concurrent.strategy.Condition;
+import org.powerbot.game.bot.Context;
+import org.powerbot.game.bot.handler.TickMonitor;
+
 /**
  * A utility for manipulating time.
  *
@@ -7,10 +13,25 @@ package org.powerbot.game.api.util;
  */
 public class Time {
 	/**
+	 * The longest a waiter goes without re-validating when the client publishes no frames (i.e. minimized).
+	 */
+	private static final int FRAME_TIMEOUT = 50;
+
+	/**
+	 * Sleeps for the given time, returning early if the current thread is interrupted or its task is cancelled meanwhile.
+	 * A sleep begun after the task was cancelled lasts its full time, so loops that never check for cancellation do not spin.
+	 * A task of a shared pool gives up its carrier while sleeping.
+	 *
 	 * @param time The number of milliseconds to ensure sleeping for.
 	 */
 	public static void sleep(final int time) {
+		final boolean released = SharedTaskPool.release();
 		try {
+			final CancellationToken token = CancellationToken.current();
+			if (token != null && !token.isCancelled()) {
+				token.await(time);
+				return;
+			}
 			final long start = System.currentTimeMillis();
 			Thread.sleep(time);
 			long now;
@@ -18,6 +39,10 @@ public class Time {
 				Thread.sleep(start + time - now);
 			}
 		} catch (final InterruptedException ignored) {
+		} finally {
+			if (released) {
+				SharedTaskPool.acquire();
+			}
 		}
 	}
 
@@ -31,6 +56,54 @@ public class Time {
 		sleep(Random.nextInt(min, max));
 	}
 
+	/**
+	 * Sleeps until the provided condition validates, re-validating it once per client frame rather than polling.
+	 *
+	 * @param condition The <code>Condition</code> to wait for.
+	 * @param timeout   The maximum number of milliseconds to wait.
+	 * @return <tt>true</tt> if the condition validated within the timeout; otherwise <tt>false</tt>.
+	 */
+	public static boolean await(final Condition condition, final int timeout) {
+		return await(condition, System.currentTimeMillis() + timeout);
+	}
+
+	/**
+	 * Sleeps until the provided condition validates or the provided time is reached, re-validating it once per client frame.
+	 * Waiting stops early once the task of the current thread is cancelled or reaches its deadline.
+	 *
+	 * @param condition The <code>Condition</code> to wait for.
+	 * @param end       The time in milliseconds to stop waiting at.
+	 * @return <tt>true</tt> if the condition validated in time; otherwise <tt>false</tt>.
+	 */
+	static boolean await(final Condition condition, final long end) {
+		TickMonitor monitor;
+		try {
+			monitor = Context.get().getTickMonitor();
+		} catch (final RuntimeException ignored) {
+			monitor = null;
+		}
+		final CancellationToken token = CancellationToken.current();
+		while (!condition.validate()) {
+			final long remaining = end - System.currentTimeMillis();
+			if (remaining <= 0 || (token != null && token.isCancelled())) {
+				return false;
+			}
+			if (monitor != null) {
+				final boolean released = SharedTaskPool.release();
+				try {
+					monitor.awaitFrame(Math.min(remaining, FRAME_TIMEOUT));
+				} finally {
+					if (released) {
+						SharedTaskPool.acquire();
+					}
+				}
+			} else {
+				sleep((int) Math.min(remaining, 5));
+			}
+		}
+		return true;
+	}
+
 	/**
 	 * Converts milliseconds to a String in the format
 	 * hh:mm:ss.
@@ -1,5 +1,7 @@
 package org.powerbot.game.api.util;
 
+import org.powerbot.concurrent.strategy.Condition;
+
 /**
  * A Timer utility.
  *
@@ -77,6 +79,17 @@ public class Timer {
 		return end;
 	}
 
+	/**
+	 * Sleeps until the provided condition validates or this timer is no longer running,
+	 * re-validating it once per client frame.
+	 *
+	 * @param condition The <code>Condition</code> to wait for.
+	 * @return <tt>true</tt> if the condition validated while this timer was running; otherwise <tt>false</tt>.
+	 */
+	public boolean await(final Condition condition) {
+		return Time.await(condition, end);
+	}
+
 	/**
 	 * Returns a formatted String of the time elapsed.
 	 *
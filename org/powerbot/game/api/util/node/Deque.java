@@ -1,5 +1,8 @@
 package org.powerbot.game.api.util.node;
 
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
 import org.powerbot.game.client.Node;
 import org.powerbot.game.client.NodeDeque;
 
@@ -8,7 +11,7 @@ import org.powerbot.game.client.NodeDeque;
  * @author Timer
  */
 @SuppressWarnings("unchecked")
-public class Deque<N> {
+public class Deque<N> implements Iterable<N> {
 	private final NodeDeque nl;
 	private Node current;
 
@@ -63,4 +66,33 @@ public class Deque<N> {
 
 		return (N) node;
 	}
+
+	/**
+	 * Each iterator keeps its own position, so several may walk this deque at once without disturbing <code>getNext</code>.
+	 *
+	 * @return An <code>Iterator</code> over the nodes from head to tail.
+	 */
+	public Iterator<N> iterator() {
+		final Node tail = (Node) nl.getTail();
+		return new Iterator<N>() {
+			private Node next = tail.getNext();
+
+			public boolean hasNext() {
+				return next != null && next != tail;
+			}
+
+			public N next() {
+				if (!hasNext()) {
+					throw new NoSuchElementException();
+				}
+				final Node node = next;
+				next = node.getNext();
+				return (N) node;
+			}
+
+			public void remove() {
+				throw new UnsupportedOperationException();
+			}
+		};
+	}
 }
@@ -1,11 +1,14 @@
 package org.powerbot.game.api.util.node;
 
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
 import org.powerbot.game.client.Node;
 
 /**
  * @author Timer
  */
-public class HashTable {
+public class HashTable implements Iterable<Node> {
 	private org.powerbot.game.client.HashTable nc;
 	private org.powerbot.game.client.Node current;
 	private int c_index = 0;
@@ -34,4 +37,42 @@ public class HashTable {
 		}
 		return null;
 	}
+
+	/**
+	 * Each iterator keeps its own position, so several may walk this table at once without disturbing <code>getNext</code>.
+	 * The bucket array is read once when the iterator is created.
+	 *
+	 * @return An <code>Iterator</code> over the nodes of every bucket.
+	 */
+	public Iterator<Node> iterator() {
+		final Node[] buckets = (Node[]) nc.getBuckets();
+		return new Iterator<Node>() {
+			private int index = 0;
+			private Node bucket, next;
+
+			public boolean hasNext() {
+				while (next == null || next == bucket) {
+					if (buckets == null || index >= buckets.length) {
+						return false;
+					}
+					bucket = buckets[index++];
+					next = bucket != null ? bucket.getPrevious() : null;
+				}
+				return true;
+			}
+
+			public Node next() {
+				if (!hasNext()) {
+					throw new NoSuchElementException();
+				}
+				final Node node = next;
+				next = node.getPrevious();
+				return node;
+			}
+
+			public void remove() {
+				throw new UnsupportedOperationException();
+			}
+		};
+	}
 }
@@ -1,5 +1,8 @@
 package org.powerbot.game.api.util.node;
 
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
 import org.powerbot.game.client.LinkedListNode;
 
 /**
@@ -7,7 +10,7 @@ import org.powerbot.game.client.LinkedListNode;
  * @author Timer
  */
 @SuppressWarnings("unchecked")
-public class LinkedList<N> {
+public class LinkedList<N> implements Iterable<N> {
 	private final org.powerbot.game.client.LinkedList nl;
 	private LinkedListNode current;
 
@@ -38,4 +41,33 @@ public class LinkedList<N> {
 
 		return (N) node;
 	}
+
+	/**
+	 * Each iterator keeps its own position, so several may walk this list at once without disturbing <code>getNext</code>.
+	 *
+	 * @return An <code>Iterator</code> over the nodes from head to tail.
+	 */
+	public Iterator<N> iterator() {
+		final LinkedListNode tail = (LinkedListNode) nl.getTail();
+		return new Iterator<N>() {
+			private LinkedListNode next = (LinkedListNode) tail.getNext();
+
+			public boolean hasNext() {
+				return next != null && next != tail;
+			}
+
+			public N next() {
+				if (!hasNext()) {
+					throw new NoSuchElementException();
+				}
+				final LinkedListNode node = next;
+				next = (LinkedListNode) node.getNext();
+				return (N) node;
+			}
+
+			public void remove() {
+				throw new UnsupportedOperationException();
+			}
+		};
+	}
 }
@@ -1,35 +1,117 @@
 package org.powerbot.game.api.util.node;
 
 import org.powerbot.game.api.util.internal.Multipliers;
+import org.powerbot.game.bot.Attribute;
 import org.powerbot.game.bot.Context;
+import org.powerbot.game.client.Client;
 import org.powerbot.game.client.Node;
 
 /**
  * @author Timer
  */
 public class Nodes {
+	private static final Attribute<Table> tables = new Attribute<Table>();
+
 	/**
 	 * @param nc The node cache to check
 	 * @param id The id of the node
 	 * @return A <tt>Node</tt> object corresponding to the ID in the nodecache.
 	 */
 	public static Node lookup(final org.powerbot.game.client.HashTable nc, final long id) {
+		if (nc == null || id < 0) {
+			return null;
+		}
 		try {
-			if (nc == null || nc.getBuckets() == null || id < 0) {
+			return lookup((Node[]) nc.getBuckets(), getMultiplier(Context.multipliers()), id);
+		} catch (final Exception ignored) {
+		}
+		return null;
+	}
+
+	/**
+	 * Binds a node cache for repeated lookups, such as when enumerating many ids at once.
+	 * The bucket array and the id multiplier are resolved once per client cycle; binding the same cache again within
+	 * the cycle returns the same <code>Table</code>.
+	 *
+	 * @param nc The node cache to bind.
+	 * @return A <code>Table</code> bound to the node cache.
+	 */
+	public static Table bind(final org.powerbot.game.client.HashTable nc) {
+		final Context context = Context.get();
+		final Client client = context.getClient();
+		final int loopCycle = client != null ? client.getLoopCycle() : -1;
+		final Table table = tables.get(context);
+		if (table != null && table.nc == nc && table.loopCycle == loopCycle && loopCycle != -1) {
+			return table;
+		}
+		final Table bound = new Table(nc, getMultiplier(context.getMultipliers()), loopCycle);
+		tables.set(context, bound);
+		return bound;
+	}
+
+	/**
+	 * A node cache whose bucket array and id multiplier have been resolved.
+	 */
+	public static final class Table {
+		private final org.powerbot.game.client.HashTable nc;
+		private final Node[] buckets;
+		private final long multiplier;
+		private final int loopCycle;
+
+		private Table(final org.powerbot.game.client.HashTable nc, final long multiplier, final int loopCycle) {
+			Node[] buckets = null;
+			try {
+				buckets = nc != null ? (Node[]) nc.getBuckets() : null;
+			} catch (final Exception ignored) {
+			}
+			this.nc = nc;
+			this.buckets = buckets;
+			this.multiplier = multiplier;
+			this.loopCycle = loopCycle;
+		}
+
+		/**
+		 * @param id The id of the node
+		 * @return A <tt>Node</tt> object corresponding to the ID in the nodecache.
+		 */
+		public Node lookup(final long id) {
+			if (id < 0) {
 				return null;
 			}
+			try {
+				return Nodes.lookup(buckets, multiplier, id);
+			} catch (final Exception ignored) {
+			}
+			return null;
+		}
 
-			final Multipliers multipliers = Context.multipliers();
-			final long multiplier = (((long) multipliers.NODE_ID) << 32) + ((multipliers.NODE_ID_p2 & 0xFFFFFFFFL));
+		/**
+		 * @param ids The ids of the nodes
+		 * @return The <tt>Node</tt> objects corresponding to each ID in the nodecache, in the same order; <code>null</code> where absent.
+		 */
+		public Node[] lookup(final int[] ids) {
+			final Node[] nodes = new Node[ids.length];
+			for (int i = 0; i < ids.length; i++) {
+				nodes[i] = lookup(ids[i]);
+			}
+			return nodes;
+		}
+	}
+
+	private static long getMultiplier(final Multipliers multipliers) {
+		return (((long) multipliers.NODE_ID) << 32) + ((multipliers.NODE_ID_p2 & 0xFFFFFFFFL));
+	}
 
-			final Node n = ((Node[]) nc.getBuckets())[(int) (id & ((Node[]) nc.getBuckets()).length - 1)];
-			for (Node node = n.getPrevious(); node != n; node = node.getPrevious()) {
-				if (node.getID() * multiplier == id) {
-					return node;
-				}
+	private static Node lookup(final Node[] buckets, final long multiplier, final long id) {
+		if (buckets == null) {
+			return null;
+		}
+		final Node n = buckets[(int) (id & buckets.length - 1)];
+		for (Node node = n.getPrevious(); node != n; node = node.getPrevious()) {
+			if (node.getID() * multiplier == id) {
+				return node;
 			}
-		} catch (final Exception ignored) {
 		}
 		return null;
 	}
-}
\ No newline at end of file
+}
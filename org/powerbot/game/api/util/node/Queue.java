@@ -1,5 +1,8 @@
 package org.powerbot.game.api.util.node;
 
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
 import org.powerbot.game.client.NodeSub;
 import org.powerbot.game.client.NodeSubQueue;
 
@@ -8,7 +11,7 @@ import org.powerbot.game.client.NodeSubQueue;
  * @author Timer
  */
 @SuppressWarnings("unchecked")
-public class Queue<N extends org.powerbot.game.client.NodeSub> {
+public class Queue<N extends org.powerbot.game.client.NodeSub> implements Iterable<N> {
 	private final NodeSubQueue nl;
 	private org.powerbot.game.client.NodeSub current;
 
@@ -51,4 +54,33 @@ public class Queue<N extends org.powerbot.game.client.NodeSub> {
 
 		return (N) node;
 	}
+
+	/**
+	 * Each iterator keeps its own position, so several may walk this queue at once without disturbing <code>getNext</code>.
+	 *
+	 * @return An <code>Iterator</code> over the nodes from head to tail.
+	 */
+	public Iterator<N> iterator() {
+		final NodeSub tail = (NodeSub) nl.getTail();
+		return new Iterator<N>() {
+			private NodeSub next = tail.getNextSub();
+
+			public boolean hasNext() {
+				return next != null && next != tail;
+			}
+
+			public N next() {
+				if (!hasNext()) {
+					throw new NoSuchElementException();
+				}
+				final NodeSub node = next;
+				next = node.getNextSub();
+				return (N) node;
+			}
+
+			public void remove() {
+				throw new UnsupportedOperationException();
+			}
+		};
+	}
 }
@@ -11,7 +11,6 @@ import org.powerbot.game.api.methods.interactive.NPCs;
 import org.powerbot.game.api.methods.interactive.Players;
 import org.powerbot.game.api.methods.node.Menu;
 import org.powerbot.game.api.util.Filter;
-import org.powerbot.game.api.util.internal.Multipliers;
 import org.powerbot.game.api.util.node.LinkedList;
 import org.powerbot.game.api.util.node.Nodes;
 import org.powerbot.game.api.wrappers.Entity;
@@ -43,11 +42,9 @@ import org.powerbot.game.client.Sequence;
  */
 public abstract class Character implements Entity, Locatable, Rotatable, Identifiable {
 	private final Client client;
-	private final Multipliers multipliers;
 
 	public Character() {
 		this.client = Context.client();
-		this.multipliers = Context.multipliers();
 	}
 
 	public abstract int getLevel();
@@ -70,7 +67,7 @@ public abstract class Character implements Entity, Locatable, Rotatable, Identif
 	}
 
 	public Character getInteracting() {
-		final int index = get().getInteracting() * multipliers.CHARACTER_INTERACTING;
+		final int index = get().getInteracting();
 		if (index == -1) {
 			return null;
 		}
@@ -86,7 +83,7 @@ public abstract class Character implements Entity, Locatable, Rotatable, Identif
 		if (animation != null) {
 			final Sequence sequence = (Sequence) animation.getSequence();
 			if (sequence != null) {
-				return sequence.getID() * multipliers.SEQUENCE_ID;
+				return sequence.getID();
 			}
 		}
 		return -1;
@@ -98,7 +95,7 @@ public abstract class Character implements Entity, Locatable, Rotatable, Identif
 			if (animation != null) {
 				final Sequence sequence = (Sequence) animation.getSequence();
 				if (sequence != null) {
-					return sequence.getID() * multipliers.SEQUENCE_ID;
+					return sequence.getID();
 				}
 			}
 		} catch (final AbstractMethodError ignored) {
@@ -108,11 +105,11 @@ public abstract class Character implements Entity, Locatable, Rotatable, Identif
 	}
 
 	public int getHeight() {
-		return get().getHeight() * multipliers.CHARACTER_HEIGHT;
+		return get().getHeight();
 	}
 
 	public int getRotation() {
-		return get().getOrientation() * multipliers.CHARACTER_ORIENTATION;
+		return get().getOrientation();
 	}
 
 	public int getOrientation() {
@@ -125,7 +122,7 @@ public abstract class Character implements Entity, Locatable, Rotatable, Identif
 			return null;
 		}
 
-		final int global_loopCycle = client.getLoopCycle() * multipliers.GLOBAL_LOOPCYCLE;
+		final int global_loopCycle = client.getLoopCycle();
 
 		final Object combatStatusList = accessor.getCombatStatusList();
 		if (combatStatusList == null) {
@@ -133,7 +130,7 @@ public abstract class Character implements Entity, Locatable, Rotatable, Identif
 		}
 
 		final LinkedList<Object> linkedCombatStatus = new LinkedList<Object>((org.powerbot.game.client.LinkedList) combatStatusList);
-		for (Object combatStatus = linkedCombatStatus.getHead(); combatStatus != null; combatStatus = linkedCombatStatus.getNext()) {
+		for (final Object combatStatus : linkedCombatStatus) {
 			final Object dataList = ((CombatStatus) combatStatus).getData();
 			if (dataList == null) {
 				continue;
@@ -141,7 +138,7 @@ public abstract class Character implements Entity, Locatable, Rotatable, Identif
 
 			final LinkedList<Object> linkedDataList = new LinkedList<Object>((org.powerbot.game.client.LinkedList) dataList);
 			final Object headData = linkedDataList.getHead();
-			if (headData == null || ((CombatStatusData) headData).getLoopCycleStatus() * multipliers.CHARACTER_LOOPCYCLESTATUS > global_loopCycle) {
+			if (headData == null || ((CombatStatusData) headData).getLoopCycleStatus() > global_loopCycle) {
 				continue;
 			}
 
@@ -159,7 +156,7 @@ public abstract class Character implements Entity, Locatable, Rotatable, Identif
 				return 100;
 			}
 
-			return (int) Math.ceil(combatInfoData.getHPRatio() * multipliers.CHARACTER_HPRATIO * 100 / 255);
+			return (int) Math.ceil(combatInfoData.getHPRatio() * 100 / 255);
 		}
 
 		return -1;
@@ -173,7 +170,7 @@ public abstract class Character implements Entity, Locatable, Rotatable, Identif
 				return 255;
 			}
 
-			return combatInfoData.getHPRatio() * multipliers.CHARACTER_HPRATIO;
+			return combatInfoData.getHPRatio();
 		}
 
 		return -1;
@@ -197,7 +194,7 @@ public abstract class Character implements Entity, Locatable, Rotatable, Identif
 	}
 
 	public int getSpeed() {
-		return get().isMoving() * multipliers.CHARACTER_ISMOVING;
+		return get().isMoving();
 	}
 
 	public boolean isMoving() {
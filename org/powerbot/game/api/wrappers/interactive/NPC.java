@@ -2,8 +2,6 @@ package org.powerbot.game.api.wrappers.interactive;
 
 import java.lang.ref.SoftReference;
 
-import org.powerbot.game.api.util.internal.Multipliers;
-import org.powerbot.game.bot.Context;
 import org.powerbot.game.client.RSNPC;
 import org.powerbot.game.client.RSNPCDef;
 
@@ -12,15 +10,13 @@ import org.powerbot.game.client.RSNPCDef;
  */
 public class NPC extends Character {
 	private final SoftReference<RSNPC> n;
-	private final Multipliers multipliers;
 
 	public NPC(final RSNPC n) {
 		this.n = new SoftReference<RSNPC>(n);
-		this.multipliers = Context.multipliers();
 	}
 
 	public int getLevel() {
-		return get().getLevel() * multipliers.NPC_LEVEL;
+		return get().getLevel();
 	}
 
 	public String getName() {
@@ -28,7 +24,7 @@ public class NPC extends Character {
 	}
 
 	public int getId() {
-		return ((RSNPCDef) get().getRSNPCDef()).getID() * multipliers.NPCDEF_ID;
+		return ((RSNPCDef) get().getRSNPCDef()).getID();
 	}
 
 	public String[] getActions() {
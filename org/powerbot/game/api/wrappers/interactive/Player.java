@@ -2,8 +2,6 @@ package org.powerbot.game.api.wrappers.interactive;
 
 import java.lang.ref.SoftReference;
 
-import org.powerbot.game.api.util.internal.Multipliers;
-import org.powerbot.game.bot.Context;
 import org.powerbot.game.client.RSPlayer;
 import org.powerbot.game.client.RSPlayerComposite;
 
@@ -12,15 +10,13 @@ import org.powerbot.game.client.RSPlayerComposite;
  */
 public class Player extends Character {
 	private final SoftReference<RSPlayer> p;
-	private final Multipliers multipliers;
 
 	public Player(final RSPlayer p) {
 		this.p = new SoftReference<RSPlayer>(p);
-		this.multipliers = Context.multipliers();
 	}
 
 	public int getLevel() {
-		return get().getLevel() * multipliers.PLAYER_LEVEL;
+		return get().getLevel();
 	}
 
 	public String getName() {
@@ -28,20 +24,20 @@ public class Player extends Character {
 	}
 
 	public int getTeam() {
-		return get().getTeam() * multipliers.PLAYER_TEAM;
+		return get().getTeam();
 	}
 
 	public int getPrayerIcon() {
-		return get().getPrayerIcon() * multipliers.PLAYER_PRAYERICON;
+		return get().getPrayerIcon();
 	}
 
 	public int getSkullIcon() {
-		return get().getSkullIcon() * multipliers.PLAYER_SKULLICON;
+		return get().getSkullIcon();
 	}
 
 	public int getNpcId() {
 		final RSPlayerComposite composite = (RSPlayerComposite) get().getComposite();
-		return composite == null ? -1 : composite.getNPCID() * multipliers.PLAYERCOMPOSITE_NPCID;
+		return composite == null ? -1 : composite.getNPCID();
 	}
 
 	public int getId() {
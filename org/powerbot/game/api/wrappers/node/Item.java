@@ -1,6 +1,5 @@
 package org.powerbot.game.api.wrappers.node;
 
-import org.powerbot.game.api.util.internal.Multipliers;
 import org.powerbot.game.api.util.node.Nodes;
 import org.powerbot.game.api.wrappers.Identifiable;
 import org.powerbot.game.api.wrappers.widget.WidgetChild;
@@ -30,9 +29,8 @@ public class Item implements Identifiable {
 	}
 
 	public Item(final RSItem item) {
-		final Multipliers multipliers = Context.multipliers();
-		id = item.getID() * multipliers.ITEM_ID;
-		stack = item.getStackSize() * multipliers.ITEM_STACKSIZE;
+		id = item.getID();
+		stack = item.getStackSize();
 	}
 
 	public Item(final WidgetChild widgetChild) {
@@ -1,7 +1,6 @@
 package org.powerbot.game.api.wrappers.node;
 
 import org.powerbot.game.api.wrappers.Identifiable;
-import org.powerbot.game.bot.Context;
 import org.powerbot.game.client.RSItemDef;
 
 /**
@@ -24,7 +23,7 @@ public class ItemDefinition implements Identifiable {
 
 	public int getId() {
 		try {
-			return definition.getID() * Context.multipliers().ITEMDEF_ID;
+			return definition.getID();
 		} catch (final ClassCastException ignored) {
 		}
 		return -1;
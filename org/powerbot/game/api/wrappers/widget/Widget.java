@@ -4,7 +4,6 @@ import java.awt.Point;
 import java.awt.Rectangle;
 import java.util.Arrays;
 
-import org.powerbot.game.api.util.internal.Multipliers;
 import org.powerbot.game.api.wrappers.Identifiable;
 import org.powerbot.game.bot.Context;
 import org.powerbot.game.client.Client;
@@ -84,12 +83,11 @@ public class Widget implements Identifiable {
 
 	public Point getLocation() {
 		final Client client = Context.client();
-		final Multipliers multipliers = Context.multipliers();
 		final Object[] children = getChildrenInternal();
 		if (children != null) {
 			for (final Object child : children) {
 				if (child != null) {
-					final int index = ((RSInterface) child).getBoundsArrayIndex() * multipliers.INTERFACE_BOUNDSARRAYINDEX;
+					final int index = ((RSInterface) child).getBoundsArrayIndex();
 					final Rectangle[] boundsArray = client.getRSInterfaceBoundsArray();
 					if (index > 0 && index < boundsArray.length) {
 						return boundsArray[index].getLocation();
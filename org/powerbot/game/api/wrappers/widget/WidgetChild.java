@@ -16,6 +16,7 @@ import org.powerbot.game.api.wrappers.Entity;
 import org.powerbot.game.api.wrappers.Identifiable;
 import org.powerbot.game.bot.Context;
 import org.powerbot.game.client.Client;
+import org.powerbot.game.client.Node;
 import org.powerbot.game.client.RSInterface;
 import org.powerbot.game.client.RSInterfaceNode;
 
@@ -98,9 +99,25 @@ public class WidgetChild implements Entity, Identifiable {
 	}
 
 	public Point getAbsoluteLocation() {
-		if (getInternal() == null) {
+		final RSInterface internal = getInternal();
+		if (internal == null) {
 			return new Point(-1, -1);
 		}
+		final Rectangle rectangle = WidgetLayout.get(this, internal);
+		return new Point(rectangle.x, rectangle.y);
+	}
+
+	/**
+	 * Resolves the absolute rectangle of this component from the client, bypassing the frame's layout.
+	 *
+	 * @return The absolute location and size of this component.
+	 */
+	Rectangle measure() {
+		final Point location = locate();
+		return new Rectangle(location.x, location.y, measureWidth(), measureHeight());
+	}
+
+	private Point locate() {
 		final Client client = Context.client();
 		final int parentId = getParentId();
 		int x = 0, y = 0;
@@ -132,12 +149,12 @@ public class WidgetChild implements Entity, Identifiable {
 
 	public int getRelativeX() {
 		final RSInterface widget = getInternal();
-		return widget != null ? widget.getX() * Context.multipliers().INTERFACE_X : -1;
+		return widget != null ? widget.getX() : -1;
 	}
 
 	public int getRelativeY() {
 		final RSInterface widget = getInternal();
-		return widget != null ? widget.getY() * Context.multipliers().INTERFACE_Y : -1;
+		return widget != null ? widget.getY() : -1;
 	}
 
 	public Point getRelativeLocation() {
@@ -145,52 +162,61 @@ public class WidgetChild implements Entity, Identifiable {
 		if (widget == null) {
 			return new Point(-1, -1);
 		}
-		final Multipliers multipliers = Context.multipliers();
 		return new Point(
-				widget.getX() * multipliers.INTERFACE_X,
-				widget.getY() * multipliers.INTERFACE_Y
+				widget.getX(),
+				widget.getY()
 		);
 	}
 
 	public int getWidth() {
+		final RSInterface internal = getInternal();
+		return internal != null ? WidgetLayout.get(this, internal).width : -1;
+	}
+
+	public int getHeight() {
+		final RSInterface internal = getInternal();
+		return internal != null ? WidgetLayout.get(this, internal).height : -1;
+	}
+
+	private int measureWidth() {
 		if (!isInScrollableArea()) {
 			return getHorizontalScrollThumbSize();
 		}
 		final RSInterface widget = getInternal();
-		return widget != null ? (widget.getWidth() * Context.multipliers().INTERFACE_WIDTH) - 4 : -1;
+		return widget != null ? widget.getWidth() - 4 : -1;
 	}
 
-	public int getHeight() {
+	private int measureHeight() {
 		if (!isInScrollableArea()) {
 			return getVerticalScrollThumbSize();
 		}
 		final RSInterface widget = getInternal();
-		return widget != null ? (widget.getHeight() * Context.multipliers().INTERFACE_HEIGHT) - 4 : -1;
+		return widget != null ? widget.getHeight() - 4 : -1;
 	}
 
 	public int getId() {
 		final RSInterface widget = getInternal();
-		return widget != null ? widget.getID() * Context.multipliers().INTERFACE_ID : -1;
+		return widget != null ? widget.getID() : -1;
 	}
 
 	public int getType() {
 		final RSInterface widget = getInternal();
-		return widget != null ? widget.getType() * Context.multipliers().INTERFACE_TYPE : -1;
+		return widget != null ? widget.getType() : -1;
 	}
 
 	public int getSpecialType() {
 		final RSInterface widget = getInternal();
-		return widget != null ? widget.getSpecialType() * Context.multipliers().INTERFACE_SPECIALTYPE : -1;
+		return widget != null ? widget.getSpecialType() : -1;
 	}
 
 	public int getChildId() {
 		final RSInterface widget = getInternal();
-		return widget != null ? widget.getComponentID() * Context.multipliers().INTERFACE_COMPONENTID : -1;
+		return widget != null ? widget.getComponentID() : -1;
 	}
 
 	public int getChildIndex() {
 		final RSInterface widget = getInternal();
-		return widget != null ? widget.getComponentIndex() * Context.multipliers().INTERFACE_COMPONENTINDEX : -1;
+		return widget != null ? widget.getComponentIndex() : -1;
 	}
 
 	public String getChildName() {
@@ -200,7 +226,7 @@ public class WidgetChild implements Entity, Identifiable {
 
 	public int getTextureId() {
 		final RSInterface widget = getInternal();
-		return widget != null ? widget.getTextureID() * Context.multipliers().INTERFACE_TEXTUREID : -1;
+		return widget != null ? widget.getTextureID() : -1;
 	}
 
 	public String getText() {
@@ -210,12 +236,12 @@ public class WidgetChild implements Entity, Identifiable {
 
 	public int getTextColor() {
 		final RSInterface widget = getInternal();
-		return widget != null ? widget.getTextColor() * Context.multipliers().INTERFACE_TEXTCOLOR : -1;
+		return widget != null ? widget.getTextColor() : -1;
 	}
 
 	public int getShadowColor() {
 		final RSInterface widget = getInternal();
-		return widget != null ? widget.getShadowColor() * Context.multipliers().INTERFACE_SHADOWCOLOR : -1;
+		return widget != null ? widget.getShadowColor() : -1;
 	}
 
 	public String getTooltip() {
@@ -225,7 +251,7 @@ public class WidgetChild implements Entity, Identifiable {
 
 	public int getBorderThickness() {
 		final RSInterface widget = getInternal();
-		return widget != null ? widget.getBorderThinkness() * Context.multipliers().INTERFACE_BORDERTHICKNESS : -1;
+		return widget != null ? widget.getBorderThinkness() : -1;
 	}
 
 	public String getSelectedAction() {
@@ -235,17 +261,17 @@ public class WidgetChild implements Entity, Identifiable {
 
 	public int getModelId() {
 		final RSInterface widget = getInternal();
-		return widget != null ? widget.getModelID() * Context.multipliers().INTERFACE_MODELID : -1;
+		return widget != null ? widget.getModelID() : -1;
 	}
 
 	public int getModelType() {
 		final RSInterface widget = getInternal();
-		return widget != null ? widget.getModelType() * Context.multipliers().INTERFACE_MODELTYPE : -1;
+		return widget != null ? widget.getModelType() : -1;
 	}
 
 	public int getModelZoom() {
 		final RSInterface widget = getInternal();
-		return widget != null ? widget.getModelZoom() * Context.multipliers().INTERFACE_MODELZOOM : -1;
+		return widget != null ? widget.getModelZoom() : -1;
 	}
 
 	public boolean isInventory() {
@@ -255,22 +281,22 @@ public class WidgetChild implements Entity, Identifiable {
 
 	public int getChildStackSize() {
 		final RSInterface widget = getInternal();
-		return widget != null ? widget.getComponentStackSize() * Context.multipliers().INTERFACE_COMPONENTSTACKSIZE : -1;
+		return widget != null ? widget.getComponentStackSize() : -1;
 	}
 
 	public int getXRotation() {
 		final RSInterface widget = getInternal();
-		return widget != null ? widget.getXRotation() * Context.multipliers().INTERFACE_XROTATION : -1;
+		return widget != null ? widget.getXRotation() : -1;
 	}
 
 	public int getYRotation() {
 		final RSInterface widget = getInternal();
-		return widget != null ? widget.getYRotation() * Context.multipliers().INTERFACE_YROTATION : -1;
+		return widget != null ? widget.getYRotation() : -1;
 	}
 
 	public int getZRotation() {
 		final RSInterface widget = getInternal();
-		return widget != null ? widget.getZRotation() * Context.multipliers().INTERFACE_ZROTATION : -1;
+		return widget != null ? widget.getZRotation() : -1;
 	}
 
 	public String[] getActions() {
@@ -290,37 +316,37 @@ public class WidgetChild implements Entity, Identifiable {
 
 	public int getHorizontalScrollPosition() {
 		final RSInterface widget = getInternal();
-		return widget != null ? widget.getHorizontalScrollbarPosition() * Context.multipliers().INTERFACE_HORIZONTALSCROLLBARTHUMBPOSITION : -1;
+		return widget != null ? widget.getHorizontalScrollbarPosition() : -1;
 	}
 
 	public int getScrollableContentWidth() {
 		final RSInterface widget = getInternal();
-		return widget != null ? widget.getHorizontalScrollbarSize() * Context.multipliers().INTERFACE_HORIZONTALSCROLLBARSIZE : -1;
+		return widget != null ? widget.getHorizontalScrollbarSize() : -1;
 	}
 
 	public int getHorizontalScrollThumbSize() {
 		final RSInterface widget = getInternal();
-		return widget != null ? widget.getHorizontalScrollbarThumbSize() * Context.multipliers().INTERFACE_HORIZONTALSCROLLBARTHUMBSIZE : -1;
+		return widget != null ? widget.getHorizontalScrollbarThumbSize() : -1;
 	}
 
 	public int getVerticalScrollPosition() {
 		final RSInterface widget = getInternal();
-		return widget != null ? widget.getVerticalScrollbarPosition() * Context.multipliers().INTERFACE_VERTICALSCROLLBARTHUMBPOSITION : -1;
+		return widget != null ? widget.getVerticalScrollbarPosition() : -1;
 	}
 
 	public int getScrollableContentHeight() {
 		final RSInterface widget = getInternal();
-		return widget != null ? widget.getVerticalScrollbarSize() * Context.multipliers().INTERFACE_VERTICALSCROLLBARSIZE : -1;
+		return widget != null ? widget.getVerticalScrollbarSize() : -1;
 	}
 
 	public int getVerticalScrollThumbSize() {
 		final RSInterface widget = getInternal();
-		return widget != null ? widget.getVerticalScrollbarThumbSize() * Context.multipliers().INTERFACE_VERTICALSCROLLBARTHUMBSIZE : -1;
+		return widget != null ? widget.getVerticalScrollbarThumbSize() : -1;
 	}
 
 	public int getBoundsArrayIndex() {
 		final RSInterface widget = getInternal();
-		return widget != null ? widget.getBoundsArrayIndex() * Context.multipliers().INTERFACE_BOUNDSARRAYINDEX : -1;
+		return widget != null ? widget.getBoundsArrayIndex() : -1;
 	}
 
 	public WidgetChild[] getChildren() {
@@ -386,7 +412,7 @@ public class WidgetChild implements Entity, Identifiable {
 		final Client client = Context.client();
 		final Multipliers multipliers = Context.multipliers();
 
-		final int parentId = inter.getParentID() * multipliers.INTERFACE_PARENTID;
+		final int parentId = inter.getParentID();
 
 		if (parentId != -1) {
 			return parentId;
@@ -394,8 +420,9 @@ public class WidgetChild implements Entity, Identifiable {
 
 		final int mainID = getId() >>> 0x10;
 		final HashTable ncI = new HashTable((org.powerbot.game.client.HashTable) client.getRSInterfaceNC());
-		for (RSInterfaceNode node = (RSInterfaceNode) ncI.getFirst(); node != null; node = (RSInterfaceNode) ncI.getNext()) {
-			if (mainID == node.getMainID() * multipliers.INTERFACENODE_MAINID) {
+		for (final Node n : ncI) {
+			final RSInterfaceNode node = (RSInterfaceNode) n;
+			if (mainID == node.getMainID()) {
 				final long multiplier = (((long) multipliers.NODE_ID) << 32) + ((multipliers.NODE_ID_p2 & 0xffffffffL));
 				return (int) (node.getID() * multiplier);
 			}
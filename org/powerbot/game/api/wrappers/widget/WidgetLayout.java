@@ -0,0 +1,72 @@
+package org.powerbot.game.api.wrappers.widget;
+
+import java.awt.Rectangle;
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+import org.powerbot.game.bot.Attribute;
+import org.powerbot.game.bot.Context;
+import org.powerbot.game.client.Client;
+import org.powerbot.game.client.RSInterface;
+
+/**
+ * The absolute geometry of widget components resolved within the current client frame.
+ * A component's rectangle is computed at most once per frame, and parents resolved along the way are reused by their
+ * other children; the layout is discarded when the frame, the tick or the interface bounds array changes.
+ *
+ * @author Timer
+ */
+final class WidgetLayout {
+	private static final Attribute<WidgetLayout> layouts = new Attribute<WidgetLayout>() {
+		@Override
+		protected WidgetLayout initialValue() {
+			return new WidgetLayout();
+		}
+	};
+
+	private final Map<RSInterface, Rectangle> rectangles;
+	private long frame;
+	private int loopCycle;
+	private Object bounds;
+
+	private WidgetLayout() {
+		this.rectangles = new IdentityHashMap<RSInterface, Rectangle>();
+		this.frame = -1;
+		this.loopCycle = -1;
+		this.bounds = null;
+	}
+
+	/**
+	 * @param child    The component to resolve.
+	 * @param internal The client interface backing the component.
+	 * @return The absolute rectangle of the component within the current frame; not to be modified.
+	 */
+	static Rectangle get(final WidgetChild child, final RSInterface internal) {
+		final Context context = Context.get();
+		final Client client = context.getClient();
+		final long frame = context.getTickMonitor().getFrame();
+		final int loopCycle = client.getLoopCycle();
+		final Object bounds = client.getRSInterfaceBoundsArray();
+		final WidgetLayout layout = layouts.get(context);
+		synchronized (layout) {
+			if (layout.frame != frame || layout.loopCycle != loopCycle || layout.bounds != bounds) {
+				layout.rectangles.clear();
+				layout.frame = frame;
+				layout.loopCycle = loopCycle;
+				layout.bounds = bounds;
+			} else {
+				final Rectangle rectangle = layout.rectangles.get(internal);
+				if (rectangle != null) {
+					return rectangle;
+				}
+			}
+		}
+		final Rectangle rectangle = child.measure();
+		synchronized (layout) {
+			if (layout.frame == frame && layout.loopCycle == loopCycle && layout.bounds == bounds) {
+				layout.rectangles.put(internal, rectangle);
+			}
+		}
+		return rectangle;
+	}
+}
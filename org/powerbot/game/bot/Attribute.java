@@ -0,0 +1,74 @@
+package org.powerbot.game.bot;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A typed slot of state kept by every <code>Context</code>, released along with the bot it belongs to.
+ * Each attribute is assigned a fixed index upon creation so its value is retrieved without hashing.
+ * Indices are never reused and every context reserves a slot for each, so attributes are to be held in
+ * <code>static final</code> fields rather than created per instance or per script.
+ * Override <code>initialValue</code> to provide the value of a context that was never assigned one.
+ *
+ * @param <T> The type of the value held.
+ * @author Timer
+ */
+public class Attribute<T> {
+	private static final AtomicInteger count = new AtomicInteger();
+
+	final int index;
+
+	public Attribute() {
+		this.index = count.getAndIncrement();
+	}
+
+	/**
+	 * @return The value of a context that was never assigned one; <code>null</code> by default.
+	 */
+	protected T initialValue() {
+		return null;
+	}
+
+	/**
+	 * @return The value held by the context of the current thread.
+	 */
+	public T get() {
+		return Context.get().get(this);
+	}
+
+	/**
+	 * @param context The <code>Context</code> to retrieve the value of.
+	 * @return The value held by the given context.
+	 */
+	public T get(final Context context) {
+		return context.get(this);
+	}
+
+	/**
+	 * @param value The value to hold in the context of the current thread, or <code>null</code> to reset it.
+	 */
+	public void set(final T value) {
+		Context.get().set(this, value);
+	}
+
+	/**
+	 * @param context The <code>Context</code> to assign the value of.
+	 * @param value   The value to hold, or <code>null</code> to reset it.
+	 */
+	public void set(final Context context, final T value) {
+		context.set(this, value);
+	}
+
+	/**
+	 * Resets the value held by the context of the current thread to its initial value.
+	 */
+	public void remove() {
+		Context.get().set(this, null);
+	}
+
+	/**
+	 * @return The number of attributes created.
+	 */
+	static int getCount() {
+		return count.get();
+	}
+}
@@ -8,13 +8,13 @@ import org.powerbot.game.api.ActiveScript;
 import org.powerbot.game.api.methods.Calculations;
 import org.powerbot.game.api.methods.input.Keyboard;
 import org.powerbot.game.api.methods.input.Mouse;
-import org.powerbot.game.api.methods.widget.WidgetComposite;
 import org.powerbot.game.api.util.Time;
 import org.powerbot.game.api.util.internal.Constants;
 import org.powerbot.game.api.util.internal.Multipliers;
 import org.powerbot.game.bot.event.PaintEvent;
 import org.powerbot.game.bot.event.TextPaintEvent;
 import org.powerbot.game.bot.handler.RandomHandler;
+import org.powerbot.game.bot.handler.TickMonitor;
 import org.powerbot.game.bot.handler.input.MouseExecutor;
 import org.powerbot.game.bot.handler.input.util.MouseNode;
 import org.powerbot.game.client.Client;
@@ -63,6 +63,7 @@ public class Bot extends GameDefinition implements Runnable {
 	private EventDispatcher eventDispatcher;
 	private ActiveScript activeScript;
 	private RandomHandler randomHandler;
+	private final TickMonitor tickMonitor;
 	private Future<?> antiRandomFuture;
 	private Context context;
 
@@ -90,6 +91,7 @@ public class Bot extends GameDefinition implements Runnable {
 		viewport = new Calculations.Viewport();
 		activeScript = null;
 		randomHandler = new RandomHandler(this);
+		tickMonitor = new TickMonitor(this);
 		antiRandomFuture = null;
 		account = null;
 		refreshing = false;
@@ -117,10 +119,10 @@ public class Bot extends GameDefinition implements Runnable {
 		final Context previous = context;
 		context = new Context(this);
 		if (previous != null) {
-			WidgetComposite.clear(threadGroup);
 			context.world = previous.world;
+			MouseNode.threadSpeed.set(context, MouseNode.threadSpeed.get(previous));
 		}
-		Context.context.put(threadGroup, context);
+		Context.bind(threadGroup, context);
 		callback = new Runnable() {
 			public void run() {
 				setClient((Client) appletContainer.clientInstance);
@@ -136,7 +138,7 @@ public class Bot extends GameDefinition implements Runnable {
 		log.info("Refreshing environment");
 		if (activeScript != null && activeScript.isRunning()) {
 			activeScript.pause(true);
-			while (activeScript.getContainer().isActive()) {
+			while (activeScript.isActive()) {
 				Time.sleep(150);
 			}
 		}
@@ -231,7 +233,10 @@ public class Bot extends GameDefinition implements Runnable {
 			container.submit(task);
 		}
 		bots.remove(this);
-		Context.context.remove(threadGroup);
+		Context.unbind(threadGroup);
+		if (context != null) {
+			context.clear();
+		}
 		container.shutdown();
 	}
 
@@ -266,11 +271,15 @@ public class Bot extends GameDefinition implements Runnable {
 	public Graphics getBufferGraphics() {
 		final Graphics back = backBuffer.getGraphics();
 		if (client != null) {
-			paintEvent.graphics = back;
-			textPaintEvent.graphics = back;
-			textPaintEvent.id = 0;
-			eventDispatcher.fire(paintEvent);
-			eventDispatcher.fire(textPaintEvent);
+			if (eventDispatcher.isListening(EventDispatcher.PAINT_EVENT)) {
+				paintEvent.graphics = back;
+				eventDispatcher.fire(paintEvent, EventDispatcher.PAINT_EVENT);
+			}
+			if (eventDispatcher.isListening(EventDispatcher.TEXT_PAINT_EVENT)) {
+				textPaintEvent.graphics = back;
+				textPaintEvent.id = 0;
+				eventDispatcher.fire(textPaintEvent, EventDispatcher.TEXT_PAINT_EVENT);
+			}
 		}
 		back.dispose();
 		image.getGraphics().drawImage(backBuffer, 0, 0, null);
@@ -321,6 +330,10 @@ public class Bot extends GameDefinition implements Runnable {
 		return eventDispatcher;
 	}
 
+	public TickMonitor getTickMonitor() {
+		return tickMonitor;
+	}
+
 	public void setAccount(final GameAccounts.Account account) {
 		this.account = account;
 	}
@@ -377,8 +390,20 @@ public class Bot extends GameDefinition implements Runnable {
 		});
 	}
 
+	/**
+	 * Sets the mouse speed of the bot the current thread belongs to.
+	 *
+	 * @param speed The speed of the mouse, in thousandths of its default speed.
+	 * @throws IllegalStateException If the current thread does not belong to a bot.
+	 */
 	public static void setSpeed(final int speed) {
-		MouseNode.threadSpeed.put(Thread.currentThread().getThreadGroup(), speed);
+		final Context context;
+		try {
+			context = Context.get();
+		} catch (final RuntimeException e) {
+			throw new IllegalStateException("the mouse speed can only be set from a thread of a bot", e);
+		}
+		MouseNode.threadSpeed.set(context, speed);
 	}
 
 	public void updateToolkit(final Render render) {
@@ -23,6 +23,7 @@ public class CallbackImpl implements Callback {
 	 */
 	public void updateRenderInfo(final Render render) {
 		bot.updateToolkit(render);
+		bot.getTickMonitor().update();
 	}
 
 	/**
@@ -34,5 +35,6 @@ public class CallbackImpl implements Callback {
 	 */
 	public void notifyMessage(final int id, final String sender, final String message) {
 		bot.getEventDispatcher().dispatch(new MessageEvent(id, sender, message));
+		bot.getTickMonitor().message();
 	}
 }
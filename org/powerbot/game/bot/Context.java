@@ -1,11 +1,13 @@
 package org.powerbot.game.bot;
 
 import org.powerbot.concurrent.TaskContainer;
+import org.powerbot.concurrent.ThreadPool;
 import org.powerbot.event.EventManager;
 import org.powerbot.game.api.ActiveScript;
 import org.powerbot.game.api.methods.Calculations;
 import org.powerbot.game.api.util.internal.Constants;
 import org.powerbot.game.api.util.internal.Multipliers;
+import org.powerbot.game.bot.handler.TickMonitor;
 import org.powerbot.game.bot.handler.input.MouseExecutor;
 import org.powerbot.game.bot.util.ScreenCapture;
 import org.powerbot.game.client.Client;
@@ -15,24 +17,43 @@ import org.powerbot.service.NetworkAccount;
 
 import java.awt.*;
 import java.awt.image.BufferedImage;
-import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 
 public class Context {
-	protected static final Map<ThreadGroup, Context> context = new HashMap<ThreadGroup, Context>();
+	protected static final Map<ThreadGroup, Context> context = new ConcurrentHashMap<ThreadGroup, Context>();
+	/**
+	 * The context last resolved by each thread; inherited by threads it creates and validated against the generation.
+	 */
+	private static final ThreadLocal<Binding> bindings = new InheritableThreadLocal<Binding>();
+	/**
+	 * Incremented whenever a thread group is associated or disregarded, invalidating every cached binding.
+	 */
+	private static final AtomicInteger generation = new AtomicInteger();
 
 	private final Bot bot;
 	public int world = -1;
+	private volatile AtomicReferenceArray<Object> attributes;
 
 	public Context(final Bot bot) {
 		this.bot = bot;
+		this.attributes = new AtomicReferenceArray<Object>(Math.max(Attribute.getCount(), 16));
 	}
 
 	public static Context get() {
-		final Context context = Context.context.get(Thread.currentThread().getThreadGroup());
+		final ThreadGroup threadGroup = ThreadPool.getThreadGroup();
+		final int generation = Context.generation.get();
+		final Binding binding = bindings.get();
+		if (binding != null && binding.threadGroup == threadGroup && binding.generation == generation) {
+			return binding.context;
+		}
+		final Context context = Context.context.get(threadGroup);
 		if (context == null) {
-			throw new RuntimeException(Thread.currentThread() + "@" + Thread.currentThread().getThreadGroup());
+			throw new RuntimeException(Thread.currentThread() + "@" + threadGroup);
 		}
+		bindings.set(new Binding(threadGroup, context, generation));
 		return context;
 	}
 
@@ -88,6 +109,10 @@ public class Context {
 		return bot.getClient();
 	}
 
+	public Multipliers getMultipliers() {
+		return bot.multipliers;
+	}
+
 	public MouseExecutor getExecutor() {
 		return bot.getExecutor();
 	}
@@ -104,6 +129,10 @@ public class Context {
 		return bot.getEventDispatcher();
 	}
 
+	public TickMonitor getTickMonitor() {
+		return bot.getTickMonitor();
+	}
+
 	public ThreadGroup getThreadGroup() {
 		return bot.threadGroup;
 	}
@@ -146,10 +175,89 @@ public class Context {
 		if (!EventQueue.isDispatchThread() && Context.context.containsKey(threadGroup)) {
 			throw new RuntimeException("overlapping thread groups!");
 		}
-		Context.context.put(threadGroup, this);
+		bind(threadGroup, this);
 	}
 
 	public void disregard(final ThreadGroup threadGroup) {
+		unbind(threadGroup);
+	}
+
+	/**
+	 * @param attribute The <code>Attribute</code> to retrieve.
+	 * @return The value this context holds for the attribute, initialized upon first retrieval.
+	 */
+	@SuppressWarnings("unchecked")
+	<T> T get(final Attribute<T> attribute) {
+		final AtomicReferenceArray<Object> attributes = this.attributes;
+		if (attribute.index < attributes.length()) {
+			final Object value = attributes.get(attribute.index);
+			if (value != null) {
+				return (T) value;
+			}
+		}
+		final T value = attribute.initialValue();
+		synchronized (this) {
+			final Object existing = ensureCapacity(attribute.index).get(attribute.index);
+			if (existing != null) {
+				return (T) existing;
+			}
+			if (value != null) {
+				this.attributes.set(attribute.index, value);
+			}
+		}
+		return value;
+	}
+
+	/**
+	 * @param attribute The <code>Attribute</code> to assign.
+	 * @param value     The value to hold, or <code>null</code> to reset the attribute to its initial value.
+	 */
+	synchronized <T> void set(final Attribute<T> attribute, final T value) {
+		ensureCapacity(attribute.index).set(attribute.index, value);
+	}
+
+	/**
+	 * Discards every attribute held by this context.
+	 */
+	synchronized void clear() {
+		attributes = new AtomicReferenceArray<Object>(attributes.length());
+	}
+
+	private AtomicReferenceArray<Object> ensureCapacity(final int index) {
+		final AtomicReferenceArray<Object> attributes = this.attributes;
+		if (index < attributes.length()) {
+			return attributes;
+		}
+		final AtomicReferenceArray<Object> grown = new AtomicReferenceArray<Object>(Math.max(index + 1, attributes.length() * 2));
+		for (int i = 0; i < attributes.length(); i++) {
+			grown.set(i, attributes.get(i));
+		}
+		this.attributes = grown;
+		return grown;
+	}
+
+	static void bind(final ThreadGroup threadGroup, final Context context) {
+		Context.context.put(threadGroup, context);
+		generation.incrementAndGet();
+	}
+
+	static void unbind(final ThreadGroup threadGroup) {
 		Context.context.remove(threadGroup);
+		generation.incrementAndGet();
+	}
+
+	/**
+	 * A context resolved for a thread group, valid until the generation changes.
+	 */
+	private static final class Binding {
+		private final ThreadGroup threadGroup;
+		private final Context context;
+		private final int generation;
+
+		private Binding(final ThreadGroup threadGroup, final Context context, final int generation) {
+			this.threadGroup = threadGroup;
+			this.context = context;
+			this.generation = generation;
+		}
 	}
 }
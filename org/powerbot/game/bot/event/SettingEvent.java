@@ -0,0 +1,68 @@
+package org.powerbot.game.bot.event;
+
+import java.util.EventListener;
+
+import org.powerbot.event.EventDispatcher;
+import org.powerbot.event.GeneralEvent;
+import org.powerbot.game.bot.event.listener.SettingListener;
+
+/**
+ * An event that is dispatched when the value of a game setting changes.
+ *
+ * @author Timer
+ */
+public class SettingEvent extends GeneralEvent {
+	private static final long serialVersionUID = 1L;
+	private final int index, previous, value;
+
+	public SettingEvent(final int index, final int previous, final int value) {
+		setType(EventDispatcher.SETTING_EVENT);
+		this.index = index;
+		this.previous = previous;
+		this.value = value;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void dispatch(final EventListener eventListener) {
+		((SettingListener) eventListener).settingChanged(this);
+	}
+
+	/**
+	 * @return The position of the setting that changed.
+	 */
+	public int getIndex() {
+		return index;
+	}
+
+	/**
+	 * @return The value of the setting before the change.
+	 */
+	public int getPrevious() {
+		return previous;
+	}
+
+	/**
+	 * @return The value of the setting after the change.
+	 */
+	public int getValue() {
+		return value;
+	}
+
+	/**
+	 * @return The bits of the setting that changed.
+	 */
+	public int getChanged() {
+		return previous ^ value;
+	}
+
+	/**
+	 * @param mask The bitmask of interest.
+	 * @return <tt>true</tt> if any bit of the mask changed; otherwise <tt>false</tt>.
+	 */
+	public boolean isChanged(final int mask) {
+		return (getChanged() & mask) != 0;
+	}
+}
@@ -0,0 +1,14 @@
+package org.powerbot.game.bot.event.listener;
+
+import java.util.EventListener;
+
+import org.powerbot.game.bot.event.SettingEvent;
+
+/**
+ * An interface that represents a class object that listens for changes to game settings.
+ *
+ * @author Timer
+ */
+public interface SettingListener extends EventListener {
+	public void settingChanged(final SettingEvent e);
+}
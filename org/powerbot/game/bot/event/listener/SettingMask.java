@@ -0,0 +1,42 @@
+package org.powerbot.game.bot.event.listener;
+
+import org.powerbot.game.bot.event.SettingEvent;
+
+/**
+ * A setting listener that forwards only the changes to chosen bits of a single setting.
+ * Register the mask itself with the event manager, and remove it again to unsubscribe.
+ *
+ * @author Timer
+ */
+public class SettingMask implements SettingListener {
+	private final int index, mask;
+	private final SettingListener listener;
+
+	/**
+	 * @param index    The position of the setting to observe.
+	 * @param mask     The bits of the setting to observe; <code>-1</code> for every bit.
+	 * @param listener The <code>SettingListener</code> to forward changes to.
+	 */
+	public SettingMask(final int index, final int mask, final SettingListener listener) {
+		this.index = index;
+		this.mask = mask;
+		this.listener = listener;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	public void settingChanged(final SettingEvent e) {
+		if (e.getIndex() == index && e.isChanged(mask)) {
+			listener.settingChanged(e);
+		}
+	}
+
+	public int getIndex() {
+		return index;
+	}
+
+	public int getMask() {
+		return mask;
+	}
+}
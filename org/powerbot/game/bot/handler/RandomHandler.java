@@ -99,10 +99,10 @@ public class RandomHandler implements Task {
 						if (!paused) {
 							paused = activeScript.isPaused();
 						}
-						if (!activeScript.isSilentlyLocked() || activeScript.getContainer().isActive()) {
+						if (!activeScript.isSilentlyLocked() || activeScript.isActive()) {
 							log.info("Locking script");
 							activeScript.silentLock(false);
-							while (activeScript.getContainer().isActive()) {
+							while (activeScript.isActive()) {
 								Time.sleep(Random.nextInt(500, 1200));
 							}
 						}
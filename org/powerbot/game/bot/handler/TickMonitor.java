@@ -0,0 +1,292 @@
+package org.powerbot.game.bot.handler;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import org.powerbot.concurrent.strategy.StrategyDaemon;
+import org.powerbot.concurrent.strategy.Trigger;
+import org.powerbot.event.EventDispatcher;
+import org.powerbot.game.api.methods.tab.Inventory;
+import org.powerbot.game.api.util.Snapshot;
+import org.powerbot.game.api.util.internal.Multipliers;
+import org.powerbot.game.api.wrappers.widget.WidgetChild;
+import org.powerbot.game.bot.Bot;
+import org.powerbot.game.bot.event.SettingEvent;
+import org.powerbot.game.client.Client;
+import org.powerbot.game.client.RSAnimator;
+import org.powerbot.game.client.RSCharacter;
+import org.powerbot.game.client.Sequence;
+import org.powerbot.game.client.Settings;
+
+/**
+ * A monitor of client state that signals registered daemons when the triggers their strategies depend on fire.
+ * State is only inspected for the triggers currently depended on, once per client frame.
+ * When enabled, a <code>Snapshot</code> of the game is captured once per client tick.
+ * While setting listeners are registered, each changed setting is published as a <code>SettingEvent</code>.
+ *
+ * @author Timer
+ */
+public class TickMonitor {
+	private static final Logger log = Logger.getLogger(TickMonitor.class.getName());
+
+	private final Bot bot;
+	private final List<StrategyDaemon> daemons;
+	private final Object frameLock;
+	private volatile long frame;
+	private volatile int waiting;
+	private volatile boolean snapshots;
+	private volatile Snapshot snapshot;
+	private boolean captureFailed;
+
+	private int loopCycle;
+	private int[] settings;
+	private boolean tracking;
+	private int inventory;
+	private int animation;
+
+	public TickMonitor(final Bot bot) {
+		this.bot = bot;
+		this.daemons = new CopyOnWriteArrayList<StrategyDaemon>();
+		this.frameLock = new Object();
+		this.frame = 0;
+		this.waiting = 0;
+		this.snapshots = false;
+		this.snapshot = null;
+		this.captureFailed = false;
+		this.loopCycle = -1;
+		this.settings = null;
+		this.tracking = false;
+		this.inventory = 0;
+		this.animation = -1;
+	}
+
+	/**
+	 * Registers a daemon to be signalled of triggers.
+	 *
+	 * @param daemon The <code>StrategyDaemon</code> to signal.
+	 */
+	public void register(final StrategyDaemon daemon) {
+		if (!daemons.contains(daemon)) {
+			daemons.add(daemon);
+		}
+	}
+
+	/**
+	 * Terminates the signalling of triggers to a daemon.
+	 *
+	 * @param daemon The <code>StrategyDaemon</code> to omit.
+	 */
+	public void unregister(final StrategyDaemon daemon) {
+		daemons.remove(daemon);
+	}
+
+	/**
+	 * Inspects the client for changes depended on; invoked once per client frame.
+	 */
+	public void update() {
+		++frame;
+		if (waiting > 0) {
+			synchronized (frameLock) {
+				frameLock.notifyAll();
+			}
+		}
+
+		final Client client = bot.getClient();
+		final Multipliers multipliers = bot.multipliers;
+		final int demand = getDemand();
+		final EventDispatcher dispatcher = bot.getEventDispatcher();
+		final boolean publishing = dispatcher != null && dispatcher.isListening(EventDispatcher.SETTING_EVENT);
+		final boolean tracked = tracking;
+		tracking = ((demand & Trigger.SETTING) != 0 || publishing) && client != null && multipliers != null;
+		if ((demand == 0 && !snapshots && !publishing) || client == null || multipliers == null) {
+			return;
+		}
+
+		int fired = 0;
+		final int loopCycle = client.getLoopCycle();
+		if (loopCycle != this.loopCycle) {
+			this.loopCycle = loopCycle;
+			fired |= Trigger.TICK;
+			if (snapshots) {
+				capture();
+			}
+		}
+		if (demand == 0 && !publishing) {
+			return;
+		}
+		if (tracking) {
+			if (!tracked) {
+				settings = null;
+			}
+			if (updateSettings(client, publishing ? dispatcher : null) && (demand & Trigger.SETTING) != 0) {
+				fired |= Trigger.SETTING;
+			}
+		}
+		if ((demand & Trigger.ANIMATION) != 0) {
+			final int animation = getAnimation(client);
+			if (animation != this.animation) {
+				this.animation = animation;
+				fired |= Trigger.ANIMATION;
+			}
+		}
+		if ((demand & Trigger.INVENTORY) != 0) {
+			final int inventory = getInventoryHash();
+			if (inventory != this.inventory) {
+				this.inventory = inventory;
+				fired |= Trigger.INVENTORY;
+			}
+		}
+		if (fired != 0) {
+			signal(fired);
+		}
+	}
+
+	/**
+	 * Waits for the client to publish its next frame.
+	 *
+	 * @param timeout The maximum number of milliseconds to wait.
+	 * @return <tt>true</tt> if a frame was published; otherwise <tt>false</tt>.
+	 */
+	public boolean awaitFrame(final long timeout) {
+		final long frame = this.frame;
+		synchronized (frameLock) {
+			++waiting;
+			try {
+				if (this.frame == frame && timeout > 0) {
+					frameLock.wait(timeout);
+				}
+			} catch (final InterruptedException ignored) {
+			} finally {
+				--waiting;
+			}
+		}
+		return this.frame != frame;
+	}
+
+	/**
+	 * @return The number of frames the client has published.
+	 */
+	public long getFrame() {
+		return frame;
+	}
+
+	/**
+	 * @param snapshots <tt>true</tt> to capture a <code>Snapshot</code> once per client tick; otherwise <tt>false</tt>.
+	 */
+	public void setSnapshots(final boolean snapshots) {
+		this.snapshots = snapshots;
+		if (!snapshots) {
+			snapshot = null;
+		}
+	}
+
+	public boolean isSnapshots() {
+		return snapshots;
+	}
+
+	/**
+	 * @return The <code>Snapshot</code> captured at the latest tick; otherwise <code>null</code>.
+	 */
+	public Snapshot getSnapshot() {
+		return snapshot;
+	}
+
+	/**
+	 * Signals that a message was received by the client.
+	 */
+	public void message() {
+		signal(Trigger.MESSAGE);
+	}
+
+	private void signal(final int triggers) {
+		for (final StrategyDaemon daemon : daemons) {
+			daemon.signal(triggers);
+		}
+	}
+
+	private int getDemand() {
+		int demand = 0;
+		for (final StrategyDaemon daemon : daemons) {
+			demand |= daemon.getTriggers();
+		}
+		return demand;
+	}
+
+	private void capture() {
+		try {
+			snapshot = Snapshot.capture();
+		} catch (final RuntimeException e) {
+			snapshot = null;
+			if (!captureFailed) {
+				captureFailed = true;
+				log.log(Level.WARNING, "Snapshot capture failed: ", e);
+			}
+		}
+	}
+
+	/**
+	 * Compares the settings of the client against those of the previous frame, dispatching an event for each changed setting.
+	 * The baseline is re-seeded without dispatching when it is missing, as after a frame in which settings were not tracked.
+	 *
+	 * @param client     The client to read the settings of.
+	 * @param dispatcher The dispatcher to publish changes through, or <code>null</code> to only detect them.
+	 * @return <tt>true</tt> if a setting changed or the baseline was seeded; otherwise <tt>false</tt>.
+	 */
+	private boolean updateSettings(final Client client, final EventDispatcher dispatcher) {
+		final Object settingArray = client.getSettingArray();
+		if (settingArray == null) {
+			return false;
+		}
+		final int[] data = (int[]) ((Settings) settingArray).getData();
+		if (data == null) {
+			return false;
+		}
+		if (settings == null || settings.length != data.length) {
+			settings = data.clone();
+			return true;
+		}
+		boolean changed = false;
+		for (int i = 0; i < data.length; i++) {
+			if (settings[i] != data[i]) {
+				if (dispatcher != null) {
+					dispatcher.dispatch(new SettingEvent(i, settings[i], data[i]));
+				}
+				settings[i] = data[i];
+				changed = true;
+			}
+		}
+		return changed;
+	}
+
+	private int getAnimation(final Client client) {
+		final RSCharacter player = (RSCharacter) client.getMyRSPlayer();
+		if (player != null) {
+			final RSAnimator animator = (RSAnimator) player.getAnimation();
+			if (animator != null) {
+				final Sequence sequence = (Sequence) animator.getSequence();
+				if (sequence != null) {
+					return sequence.getID();
+				}
+			}
+		}
+		return -1;
+	}
+
+	private int getInventoryHash() {
+		int hash = 1;
+		try {
+			final WidgetChild inventory = Inventory.getWidget(true);
+			if (inventory != null) {
+				for (final WidgetChild child : inventory.getChildren()) {
+					hash = 31 * hash + child.getChildId();
+					hash = 31 * hash + child.getChildStackSize();
+				}
+			}
+		} catch (final RuntimeException ignored) {
+			return this.inventory;
+		}
+		return hash;
+	}
+}
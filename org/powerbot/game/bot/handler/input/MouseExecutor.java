@@ -92,10 +92,7 @@ public class MouseExecutor {
 				int y = (int) currentPoint.getY() + (int) deltaPosition.yUnits;
 				Mouse.hop(x, y);
 			}
-			try {
-				Thread.sleep((long) (deltaTime * 1000 / multiplier));
-			} catch (final InterruptedException ignored) {
-			}
+			Time.sleep((int) (deltaTime * 1000 / multiplier));
 		} else {
 			node.cancel();
 		}
@@ -1,17 +1,16 @@
 package org.powerbot.game.bot.handler.input.util;
 
 import java.awt.Point;
-import java.util.HashMap;
-import java.util.Map;
 
 import org.powerbot.game.api.methods.input.Mouse;
 import org.powerbot.game.api.util.Filter;
 import org.powerbot.game.api.util.Random;
 import org.powerbot.game.api.util.Timer;
 import org.powerbot.game.api.wrappers.ViewportEntity;
+import org.powerbot.game.bot.Attribute;
 
 public class MouseNode {
-	public static final Map<ThreadGroup, Integer> threadSpeed = new HashMap<ThreadGroup, Integer>();
+	public static final Attribute<Integer> threadSpeed = new Attribute<Integer>();
 
 	private final int priority;
 	private final ViewportEntity viewportEntity;
@@ -30,7 +29,7 @@ public class MouseNode {
 	}
 
 	public MouseNode(final int priority, final ViewportEntity viewportEntity, final Filter<Point> filter) {
-		final Integer speed = threadSpeed.get(Thread.currentThread().getThreadGroup());
+		final Integer speed = threadSpeed.get();
 		this.priority = priority;
 		this.viewportEntity = viewportEntity;
 		this.filter = filter;
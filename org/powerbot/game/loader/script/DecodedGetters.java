@@ -0,0 +1,110 @@
+package org.powerbot.game.loader.script;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * The injected getters whose multiplier is folded into their bytecode, keyed by the client interface declaring them.
+ * Values are the ids of the multipliers within the patch.
+ *
+ * @author Timer
+ */
+public class DecodedGetters {
+	private static final Map<String, Integer> getters = new HashMap<String, Integer>();
+
+	static {
+		put("BaseInfo", "getX", 200);
+		put("BaseInfo", "getY", 201);
+		put("Client", "getCameraPitch", 300);
+		put("Client", "getCameraYaw", 301);
+		put("Client", "getCamPosX", 302);
+		put("Client", "getCamPosY", 303);
+		put("Client", "getCamPosZ", 304);
+		put("RSCharacter", "getHeight", 305);
+		put("RSCharacter", "getInteracting", 307);
+		put("RSCharacter", "isMoving", 308);
+		put("RSCharacter", "getOrientation", 310);
+		put("CombatStatusData", "getHPRatio", 311);
+		put("CombatStatusData", "getLoopCycleStatus", 312);
+		put("Client", "getDestX", 400);
+		put("Client", "getDestY", 401);
+		put("RSGroundData", "getX", 700);
+		put("RSGroundData", "getY", 701);
+		put("Client", "getGUIRSInterfaceIndex", 702);
+		put("RSInterface", "getBorderThinkness", 900);
+		put("RSInterface", "getBoundsArrayIndex", 901);
+		put("RSInterface", "getComponentID", 902);
+		put("RSInterface", "getComponentIndex", 903);
+		put("RSInterface", "getComponentStackSize", 904);
+		put("RSInterface", "getHeight", 905);
+		put("RSInterface", "getHorizontalScrollbarSize", 906);
+		put("RSInterface", "getHorizontalScrollbarPosition", 907);
+		put("RSInterface", "getHorizontalScrollbarThumbSize", 908);
+		put("RSInterface", "getID", 909);
+		put("RSInterface", "getModelID", 910);
+		put("RSInterface", "getModelType", 911);
+		put("RSInterface", "getModelZoom", 912);
+		put("RSInterface", "getParentID", 913);
+		put("RSInterface", "getShadowColor", 914);
+		put("RSInterface", "getSpecialType", 915);
+		put("RSInterface", "getTextColor", 916);
+		put("RSInterface", "getTextureID", 917);
+		put("RSInterface", "getType", 918);
+		put("RSInterface", "getVerticalScrollbarSize", 919);
+		put("RSInterface", "getVerticalScrollbarPosition", 920);
+		put("RSInterface", "getVerticalScrollbarThumbSize", 921);
+		put("RSInterface", "getWidth", 922);
+		put("RSInterface", "getX", 923);
+		put("RSInterface", "getXRotation", 924);
+		put("RSInterface", "getY", 925);
+		put("RSInterface", "getYRotation", 926);
+		put("RSInterface", "getZRotation", 927);
+		put("RSInterfaceNode", "getMainID", 928);
+		put("RSItem", "getID", 929);
+		put("RSItem", "getStackSize", 930);
+		put("RSItemDef", "getID", 931);
+		put("Client", "getLoginIndex", 1200);
+		put("Client", "getLoopCycle", 1201);
+		put("Client", "getMenuHeight", 1301);
+		put("Client", "getMenuWidth", 1304);
+		put("Client", "getMenuX", 1305);
+		put("Client", "getMenuY", 1306);
+		put("Client", "getMinimapOffset", 1307);
+		put("Client", "getMinimapScale", 1308);
+		put("Client", "getMinimapSetting", 1309);
+		put("RSNPC", "getLevel", 1402);
+		put("RSNPCDef", "getID", 1403);
+		put("Client", "getPlane", 1600);
+		put("RSPlayer", "getLevel", 1601);
+		put("RSPlayer", "getPrayerIcon", 1602);
+		put("RSPlayer", "getSkullIcon", 1603);
+		put("RSPlayer", "getTeam", 1604);
+		put("RSPlayerComposite", "getNPCID", 1605);
+		put("Sequence", "getID", 1901);
+		put("Client", "getSubMenuWidth", 1903);
+		put("Client", "getSubMenuX", 1904);
+		put("Client", "getSubMenuY", 1905);
+	}
+
+	private static void put(final String declarer, final String getter, final int id) {
+		getters.put(declarer + "." + getter, id);
+	}
+
+	/**
+	 * @param declarer The simple name of the client interface declaring the getter.
+	 * @param getter   The name of the getter.
+	 * @return The id of the multiplier to fold into the getter; otherwise <code>-1</code>.
+	 */
+	public static int get(final String declarer, final String getter) {
+		final Integer id = getters.get(declarer + "." + getter);
+		return id != null ? id : -1;
+	}
+
+	/**
+	 * @return Every decoded getter, as <code>Declarer.getter</code>, mapped to its multiplier id.
+	 */
+	public static Map<String, Integer> getAll() {
+		return Collections.unmodifiableMap(getters);
+	}
+}
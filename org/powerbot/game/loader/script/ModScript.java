@@ -2,8 +2,13 @@ package org.powerbot.game.loader.script;
 
 import java.io.ByteArrayInputStream;
 import java.io.InputStream;
+import java.lang.reflect.Method;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedList;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import org.objectweb.asm.ClassReader;
 import org.objectweb.asm.ClassVisitor;
@@ -22,6 +27,8 @@ import org.powerbot.game.loader.AdaptException;
 public class ModScript implements NodeManipulator {
 	private final Map<String, ClassVisitor> adapters;
 	private final Map<String, ClassWriter> writers;
+	private final Map<String, List<String>> interfaces;
+	private final Map<String, List<AddGetterAdapter.Field>> getters;
 	public Map<String, String> attributes;
 	public Map<Integer, Integer> constants;
 	public Map<Integer, Integer> multipliers;
@@ -58,6 +65,8 @@ public class ModScript implements NodeManipulator {
 	public ModScript() {
 		adapters = new HashMap<String, ClassVisitor>();
 		writers = new HashMap<String, ClassWriter>();
+		interfaces = new HashMap<String, List<String>>();
+		getters = new HashMap<String, List<AddGetterAdapter.Field>>();
 		attributes = new HashMap<String, String>();
 		constants = new HashMap<Integer, Integer>();
 		multipliers = new HashMap<Integer, Integer>();
@@ -102,6 +111,7 @@ public class ModScript implements NodeManipulator {
 					f.name = scanner.readString();
 					f.desc = scanner.readString();
 					fieldsGet[ptr++] = f;
+					list(getters, clazz).add(f);
 				}
 				adapters.put(clazz, new AddGetterAdapter(delegate(clazz), op == Headers.GET_FIELD, fieldsGet));
 				break;
@@ -139,6 +149,7 @@ public class ModScript implements NodeManipulator {
 			case Headers.ADD_INTERFACE:
 				clazz = scanner.readString();
 				final String inter = scanner.readString();
+				list(interfaces, clazz).add(inter);
 				adapters.put(clazz, new AddInterfaceAdapter(delegate(clazz), inter));
 				break;
 			case Headers.SET_SUPER:
@@ -192,6 +203,64 @@ public class ModScript implements NodeManipulator {
 				break;
 			}
 		}
+		decode();
+	}
+
+	/**
+	 * Folds multipliers into the getters listed by <code>DecodedGetters</code> so they return decoded values,
+	 * and reports those multipliers as <code>1</code> to the API.
+	 *
+	 * @throws AdaptException If a listed getter is not injected by this patch.
+	 */
+	private void decode() throws AdaptException {
+		final Set<String> decoded = new HashSet<String>();
+		for (final Map.Entry<String, List<AddGetterAdapter.Field>> entry : getters.entrySet()) {
+			final List<String> types = interfaces.get(entry.getKey());
+			if (types == null) {
+				continue;
+			}
+			for (final String type : types) {
+				final Class<?> inter;
+				try {
+					inter = Class.forName(type.replace('/', '.'));
+				} catch (final ClassNotFoundException ignored) {
+					continue;
+				}
+				for (final AddGetterAdapter.Field f : entry.getValue()) {
+					if (!f.desc.equals("I")) {
+						continue;
+					}
+					final Method method;
+					try {
+						method = inter.getMethod(f.getter_name);
+					} catch (final NoSuchMethodException ignored) {
+						continue;
+					}
+					final String declarer = method.getDeclaringClass().getSimpleName();
+					final int id = DecodedGetters.get(declarer, f.getter_name);
+					final Integer multiplier = multipliers.get(id);
+					if (id != -1 && multiplier != null) {
+						f.multiplier = multiplier;
+						decoded.add(declarer + "." + f.getter_name);
+					}
+				}
+			}
+		}
+		for (final Map.Entry<String, Integer> getter : DecodedGetters.getAll().entrySet()) {
+			if (!decoded.contains(getter.getKey())) {
+				throw new AdaptException("getter not decoded: " + getter.getKey());
+			}
+			multipliers.put(getter.getValue(), 1);
+		}
+	}
+
+	private static <T> List<T> list(final Map<String, List<T>> map, final String key) {
+		List<T> list = map.get(key);
+		if (list == null) {
+			list = new LinkedList<T>();
+			map.put(key, list);
+		}
+		return list;
 	}
 
 	public byte[] process(final String name, final byte[] data) {
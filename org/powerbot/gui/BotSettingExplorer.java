@@ -31,11 +31,14 @@ import javax.swing.event.ListSelectionEvent;
 import javax.swing.event.ListSelectionListener;
 
 import org.powerbot.concurrent.Task;
+import org.powerbot.event.EventDispatcher;
 import org.powerbot.game.api.methods.Settings;
 import org.powerbot.game.api.util.Time;
 import org.powerbot.game.bot.Context;
+import org.powerbot.game.bot.event.SettingEvent;
+import org.powerbot.game.bot.event.listener.SettingListener;
 
-public class BotSettingExplorer extends JFrame {
+public class BotSettingExplorer extends JFrame implements SettingListener {
 	private static final long serialVersionUID = 1L;
 	private static final int FRAME_WIDTH = 595;
 	private static final int FRAME_HEIGHT = 335;
@@ -46,6 +49,8 @@ public class BotSettingExplorer extends JFrame {
 	private int current = -1;
 	private int[] settings_cache = null;
 	private boolean paused = false;
+	private volatile boolean dirty = false;
+	private EventDispatcher dispatcher = null;
 	private final HashMap<Integer, String> lastChanges = new HashMap<Integer, String>();
 
 	private String[] lastLabels = null;
@@ -71,59 +76,95 @@ public class BotSettingExplorer extends JFrame {
 			settingExplorer.clean();
 		}
 		settingExplorer.setVisible(true);
-		try {
-			context.associate(Thread.currentThread().getThreadGroup());
-			settingExplorer.settings_cache = Settings.get();
-			context.disregard(Thread.currentThread().getThreadGroup());
-		} catch (final NullPointerException ignored) {
+		synchronized (settingExplorer) {
+			settingExplorer.settings_cache = null;
+			settingExplorer.dirty = true;
+			settingExplorer.listen(context.getBot().getEventDispatcher());
 		}
 		context.getBot().getContainer().submit(new Task() {
 			@Override
 			public void run() {
 				while (settingExplorer.isVisible()) {
-					settingExplorer.update();
+					if (settingExplorer.dirty) {
+						settingExplorer.update();
+					}
 					Time.sleep(100);
 				}
+				settingExplorer.listen(null);
 			}
 		});
 	}
 
+	/**
+	 * {@inheritDoc}
+	 */
+	public synchronized void settingChanged(final SettingEvent e) {
+		final int index = e.getIndex();
+		if (settings_cache == null) {
+			settings_cache = load();
+		}
+		if (settings_cache == null) {
+			settings_cache = new int[index + 1];
+		} else if (index >= settings_cache.length) {
+			settings_cache = Arrays.copyOf(settings_cache, index + 1);
+		}
+		final String time = FORMATTER.format(new Date());
+		if (!isPaused()) {
+			changes.append("[" + time + "] " + index + " - " + buildSettingString(e.getPrevious()) + " -> " + buildSettingString(e.getValue()) + "\n");
+			changesPane.getVerticalScrollBar().setValue(changesPane.getVerticalScrollBar().getMaximum());
+		}
+		settings_cache[index] = e.getValue();
+		lastChanges.put(index, time);
+		dirty = true;
+	}
+
+	private synchronized void listen(final EventDispatcher dispatcher) {
+		if (this.dispatcher == dispatcher) {
+			return;
+		}
+		if (this.dispatcher != null) {
+			this.dispatcher.remove(this);
+		}
+		this.dispatcher = dispatcher;
+		if (dispatcher != null) {
+			dispatcher.accept(this);
+		}
+	}
+
 	private void clean() {
 		changes.setText("");
 	}
 
-	private void update() {
-		final int[] settings_clone = Settings.get();
+	private synchronized void update() {
 		if (settings_cache == null) {
-			settings_cache = settings_clone;
-			return;
+			settings_cache = load();
 		}
-		final String time = FORMATTER.format(new Date());
-		for (int i = 0; i < settings_clone.length; i++) {
-			final int cached_value = settings_cache[i];
-			if (cached_value != settings_clone[i]) {
-				if (!isPaused()) {
-					changes.append("[" + time + "] " + i + " - " + buildSettingString(cached_value) + " -> " + buildSettingString(settings_clone[i]) + "\n");
-					changesPane.getVerticalScrollBar().setValue(changesPane.getVerticalScrollBar().getMaximum());
-				}
-				lastChanges.put(i, time);
-			}
+		if (settings_cache == null || isPaused()) {
+			return;
 		}
-		final String[] labels = new String[settings_clone.length];
+		dirty = false;
+		final String[] labels = new String[settings_cache.length];
 		for (int i = 0; i < labels.length; i++) {
-			labels[i] = Integer.toString(i) + ": " + Integer.toString(settings_clone[i]) + " [" + lastChanges.get(i) + "]";
+			labels[i] = Integer.toString(i) + ": " + Integer.toString(settings_cache[i]) + " [" + lastChanges.get(i) + "]";
 		}
-		if (!isPaused() && !Arrays.equals(labels, lastLabels)) {
+		if (!Arrays.equals(labels, lastLabels)) {
 			settingsList.setListData(labels);
 			settingsList.setSelectedIndex(current);
 		}
 		lastLabels = labels;
-		settings_cache = settings_clone;
 		settingsList.repaint();
 		changes.repaint();
 		info.repaint();
 	}
 
+	private static int[] load() {
+		try {
+			return Settings.get();
+		} catch (final NullPointerException ignored) {
+			return null;
+		}
+	}
+
 	private boolean isPaused() {
 		return paused;
 	}
@@ -32,6 +32,7 @@ import javax.swing.tree.TreeModel;
 import javax.swing.tree.TreePath;
 import javax.swing.tree.TreeSelectionModel;
 
+import org.powerbot.concurrent.ThreadPool;
 import org.powerbot.game.api.methods.Widgets;
 import org.powerbot.game.api.wrappers.widget.Widget;
 import org.powerbot.game.api.wrappers.widget.WidgetChild;
@@ -91,7 +92,7 @@ public class BotWidgetExplorer extends JFrame implements PaintListener {
 		tree.getSelectionModel().setSelectionMode(TreeSelectionModel.SINGLE_TREE_SELECTION);
 		tree.addTreeSelectionListener(new TreeSelectionListener() {
 			public void valueChanged(final TreeSelectionEvent e) {
-				context.associate(Thread.currentThread().getThreadGroup());
+				context.associate(ThreadPool.getThreadGroup());
 				try {
 					final Object node = tree.getLastSelectedPathComponent();
 					if (node == null || node instanceof WidgetWrapper) {
@@ -136,7 +137,7 @@ public class BotWidgetExplorer extends JFrame implements PaintListener {
 					infoArea.validate();
 					infoArea.repaint();
 				} finally {
-					context.disregard(Thread.currentThread().getThreadGroup());
+					context.disregard(ThreadPool.getThreadGroup());
 				}
 			}
 
@@ -199,7 +200,7 @@ public class BotWidgetExplorer extends JFrame implements PaintListener {
 		}
 
 		public Object getChild(final Object parent, final int index) {
-			context.associate(Thread.currentThread().getThreadGroup());
+			context.associate(ThreadPool.getThreadGroup());
 			try {
 				if (parent == root) {
 					return widgetWrappers.get(index);
@@ -210,12 +211,12 @@ public class BotWidgetExplorer extends JFrame implements PaintListener {
 				}
 				return null;
 			} finally {
-				context.disregard(Thread.currentThread().getThreadGroup());
+				context.disregard(ThreadPool.getThreadGroup());
 			}
 		}
 
 		public int getChildCount(final Object parent) {
-			context.associate(Thread.currentThread().getThreadGroup());
+			context.associate(ThreadPool.getThreadGroup());
 			try {
 				if (parent == root) {
 					return widgetWrappers.size();
@@ -226,16 +227,16 @@ public class BotWidgetExplorer extends JFrame implements PaintListener {
 				}
 				return 0;
 			} finally {
-				context.disregard(Thread.currentThread().getThreadGroup());
+				context.disregard(ThreadPool.getThreadGroup());
 			}
 		}
 
 		public boolean isLeaf(final Object node) {
-			context.associate(Thread.currentThread().getThreadGroup());
+			context.associate(ThreadPool.getThreadGroup());
 			try {
 				return node instanceof WidgetChildWrapper && ((WidgetChildWrapper) node).get().getChildren().length == 0;
 			} finally {
-				context.disregard(Thread.currentThread().getThreadGroup());
+				context.disregard(ThreadPool.getThreadGroup());
 			}
 		}
 
@@ -243,7 +244,7 @@ public class BotWidgetExplorer extends JFrame implements PaintListener {
 		}
 
 		public int getIndexOfChild(final Object parent, final Object child) {
-			context.associate(Thread.currentThread().getThreadGroup());
+			context.associate(ThreadPool.getThreadGroup());
 			try {
 				if (parent == root) {
 					return widgetWrappers.indexOf(child);
@@ -254,7 +255,7 @@ public class BotWidgetExplorer extends JFrame implements PaintListener {
 				}
 				return -1;
 			} finally {
-				context.disregard(Thread.currentThread().getThreadGroup());
+				context.disregard(ThreadPool.getThreadGroup());
 			}
 		}
 
@@ -275,7 +276,7 @@ public class BotWidgetExplorer extends JFrame implements PaintListener {
 
 		public void update(final String search) {
 			widgetWrappers.clear();
-			context.associate(Thread.currentThread().getThreadGroup());
+			context.associate(ThreadPool.getThreadGroup());
 			for (final Widget widget : Widgets.getLoaded()) {
 				children:
 				for (final WidgetChild widgetChild : widget.getChildren()) {
@@ -292,7 +293,7 @@ public class BotWidgetExplorer extends JFrame implements PaintListener {
 				}
 			}
 			fireTreeStructureChanged(root);
-			context.disregard(Thread.currentThread().getThreadGroup());
+			context.disregard(ThreadPool.getThreadGroup());
 		}
 
 		private boolean search(final WidgetChild child, final String string) {
@@ -15,8 +15,9 @@ import java.awt.event.MouseEvent;
 import java.awt.image.BufferedImage;
 import java.io.IOException;
 import java.net.URL;
-import java.util.HashMap;
+import java.util.Collections;
 import java.util.Map;
+import java.util.WeakHashMap;
 import java.util.logging.Handler;
 import java.util.logging.Level;
 import java.util.logging.LogRecord;
@@ -33,6 +34,7 @@ import javax.swing.SwingUtilities;
 import javax.swing.Timer;
 import javax.swing.border.EmptyBorder;
 
+import org.powerbot.concurrent.ThreadPool;
 import org.powerbot.game.GameDefinition;
 import org.powerbot.game.bot.Bot;
 import org.powerbot.gui.BotChrome;
@@ -43,7 +45,7 @@ import org.powerbot.util.io.Resources;
 public final class BotLoadingPanel extends JPanel {
 	private static final long serialVersionUID = 1L;
 	public final JLabel status, info;
-	private static final Map<ThreadGroup, LogRecord> logRecord = new HashMap<ThreadGroup, LogRecord>();
+	private static final Map<ThreadGroup, LogRecord> logRecord = Collections.synchronizedMap(new WeakHashMap<ThreadGroup, LogRecord>());
 	private ThreadGroup listeningGroup = null;
 	private final JPanel panelTop, panelBottom;
 	private final int PANEL_WIDTH = 728, PANEL_HEIGHT = 120;
@@ -216,7 +218,7 @@ public final class BotLoadingPanel extends JPanel {
 			if (!(src.equals(BotChrome.class.getName()) || src.equals(GameDefinition.class.getName()) || src.equals(Bot.class.getName()))) {
 				return;
 			}
-			final ThreadGroup currentGroup = Thread.currentThread().getThreadGroup();
+			final ThreadGroup currentGroup = ThreadPool.getThreadGroup();
 			if (listeningGroup == null && currentGroup.getName().startsWith(GameDefinition.class.getName())) {
 				return;
 			}
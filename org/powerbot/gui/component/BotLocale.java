@@ -20,6 +20,7 @@ public final class BotLocale {
 	public static String VIEW = "View";
 	public static String WIDGETEXPLORER = "Widget Explorer";
 	public static String SETTINGEXPLORER = "Setting Explorer";
+	public static String DUMPMETRICS = "Dump Metrics";
 	public static String ABOUT = "About";
 	public static String EXIT = "Exit";
 
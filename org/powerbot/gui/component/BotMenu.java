@@ -3,11 +3,13 @@ package org.powerbot.gui.component;
 import java.awt.event.ActionEvent;
 import java.awt.event.ActionListener;
 import java.awt.event.WindowEvent;
+import java.util.logging.Logger;
 
 import javax.swing.ImageIcon;
 import javax.swing.JMenuItem;
 import javax.swing.JPopupMenu;
 
+import org.powerbot.concurrent.Metrics;
 import org.powerbot.game.bot.Bot;
 import org.powerbot.gui.BotAbout;
 import org.powerbot.gui.BotAccounts;
@@ -71,6 +73,9 @@ public final class BotMenu extends JPopupMenu implements ActionListener {
 			settingExplorer.setEnabled(parent.getActiveTab() != -1);
 			settingExplorer.addActionListener(this);
 			add(settingExplorer);
+			final JMenuItem dumpMetrics = new JMenuItem(BotLocale.DUMPMETRICS);
+			dumpMetrics.addActionListener(this);
+			add(dumpMetrics);
 			addSeparator();
 		}
 
@@ -107,6 +112,8 @@ public final class BotMenu extends JPopupMenu implements ActionListener {
 			BotWidgetExplorer.display(Bot.bots.get(parent.getActiveTab()).getContext());
 		} else if (a.equals(BotLocale.SETTINGEXPLORER)) {
 			BotSettingExplorer.display(Bot.bots.get(parent.getActiveTab()).getContext());
+		} else if (a.equals(BotLocale.DUMPMETRICS)) {
+			Metrics.dump(Logger.getLogger(Metrics.class.getName()));
 		} else if (a.equals(BotLocale.WEBSITE)) {
 			BotChrome.openURL(Resources.getServerLinks().get("site"));
 		} else if (a.equals(BotLocale.ABOUT)) {
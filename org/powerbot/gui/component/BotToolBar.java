@@ -207,7 +207,7 @@ public final class BotToolBar extends JToolBar implements ActionListener {
 		if (n >= 0 && n < bots.size()) {
 			final Bot bot = bots.get(n);
 			if (bot != null && bot.getClient() != null && bot.multipliers != null && bot.constants != null) {
-				final int state = bot.getClient().getLoginIndex() * bot.multipliers.GLOBAL_LOGININDEX;
+				final int state = bot.getClient().getLoginIndex();
 				loggedIn = state == bot.constants.CLIENTSTATE_11 || state == bot.constants.CLIENTSTATE_12;
 			}
 		}
@@ -18,6 +18,21 @@ public class Configuration {
     public static final boolean FROMJAR;
     public static boolean DEVMODE = true;
     public static final boolean SUPERDEV, MULTIPROCESS = true;
+    public static final int TASKPOOL = Integer.getInteger("rsbot.taskpool", 0);
+    public static final int TASKPOOLMAX = Integer.getInteger("rsbot.taskpool.max", 64);
+    public static final int TASKPOOLQUEUE = Integer.getInteger("rsbot.taskpool.queue", 1024);
+    public static final boolean VIRTUALTHREADS = Boolean.getBoolean("rsbot.virtualthreads");
+    public static final boolean SCHEDULEDLOOPS = Boolean.getBoolean("rsbot.scheduledloops");
+    public static final int SHAREDPOOL = Integer.getInteger("rsbot.sharedpool", 0);
+    public static final int SHAREDPOOLQUOTA = Integer.getInteger("rsbot.sharedpool.quota", 0);
+    public static final int EVENTQUEUE = Integer.getInteger("rsbot.eventqueue", 4096);
+    public static final String EVENTOVERFLOW = System.getProperty("rsbot.eventqueue.overflow", "DROP_OLDEST");
+    public static final int EVENTFANOUT = Integer.getInteger("rsbot.eventfanout", 0);
+    public static final int EVENTBUDGET = Integer.getInteger("rsbot.eventfanout.budget", 500);
+    public static final boolean EVENTEVICT = Boolean.getBoolean("rsbot.eventfanout.evict");
+    public static final int EVENTCOALESCE = Integer.getInteger("rsbot.eventcoalesce", 0x2);
+    public static final String EVENTLOG = System.getProperty("rsbot.eventlog");
+    public static final boolean QUERYCACHE = Boolean.parseBoolean(System.getProperty("rsbot.querycache", "true"));
     public static final int VERSION = 4025;
     public static final OperatingSystem OS;
 
@@ -7,6 +7,7 @@ import java.util.Map.Entry;
 import java.util.logging.Logger;
 
 import org.powerbot.concurrent.TaskContainer;
+import org.powerbot.concurrent.ThreadPool;
 import org.powerbot.game.GameDefinition;
 import org.powerbot.ipc.Controller;
 import org.powerbot.service.scripts.ScriptClassLoader;
@@ -186,7 +187,7 @@ public class RestrictedSecurityManager extends SecurityManager {
 		}
 
 		// allow access for privileged thread groups
-		if (Thread.currentThread().getThreadGroup().getName().startsWith(GameDefinition.THREADGROUPNAMEPREFIX)) {
+		if (ThreadPool.getThreadGroup().getName().startsWith(GameDefinition.THREADGROUPNAMEPREFIX)) {
 			return;
 		}
 